@@ -0,0 +1,296 @@
+package cz.habarta.typescript.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Superclass, interfaces and annotations of classes on classpath, used to find input classes without full classpath scan.
+ * Metadata of each classpath entry is stored in cache directory and reused while the entry doesn't change
+ * (jar files are compared by size and modification time, directories by paths, sizes and modification times of their files),
+ * only changed entries are scanned using ClassGraph.
+ * Queries follow ClassGraph semantics (transitive subclasses and subinterfaces, meta-annotations and inherited annotations),
+ * results are sorted by class name.
+ * Unlike ClassGraph results contain only classes from accepted packages,
+ * ClassGraph also returns classes outside accepted packages which it happened to scan as supertypes of accepted classes.
+ */
+class ClasspathScanIndex {
+
+    public enum ClassKind {
+        CLASS, INTERFACE, ANNOTATION
+    }
+
+    public static class ClassMetadata {
+        public String name;
+        public ClassKind kind;
+        public String superclass;
+        public List<String> interfaces;
+        public List<String> annotations;
+        public boolean synthetic;
+        public boolean anonymous;
+    }
+
+    public static class EntryIndex {
+        public String path;
+        public List<String> acceptedPackages;
+        public String fingerprint;
+        public List<ClassMetadata> classes;
+    }
+
+    // first classpath entry wins as in class loading
+    private final Map<String, ClassMetadata> classes = new LinkedHashMap<>();
+    // direct relations: superclass -> subclasses, interface -> implementing classes and subinterfaces, annotation -> annotated classes
+    private final Map<String, List<String>> subclasses = new HashMap<>();
+    private final Map<String, List<String>> implementations = new HashMap<>();
+    private final Map<String, List<String>> annotatedClasses = new HashMap<>();
+    private int scannedEntries = 0;
+    private int cachedEntries = 0;
+
+    private ClasspathScanIndex() {
+    }
+
+    public static ClasspathScanIndex create(List<File> classpath, List<String> acceptedPackages, File cacheDirectory, boolean verbose) {
+        final ClasspathScanIndex index = new ClasspathScanIndex();
+        final List<String> packages = acceptedPackages != null ? acceptedPackages : List.of();
+        for (File entry : classpath) {
+            if (entry.exists()) {
+                index.add(index.getEntryIndex(entry.getAbsoluteFile(), packages, cacheDirectory, verbose));
+            }
+        }
+        index.link();
+        return index;
+    }
+
+    private EntryIndex getEntryIndex(File entry, List<String> acceptedPackages, File cacheDirectory, boolean verbose) {
+        final String fingerprint = getFingerprint(entry);
+        final File cacheFile = new File(cacheDirectory, sha256(entry.getPath() + "\n" + acceptedPackages).substring(0, 16) + ".json");
+        if (fingerprint != null && cacheFile.isFile()) {
+            try {
+                final EntryIndex cached = new ObjectMapper().readValue(cacheFile, EntryIndex.class);
+                if (Objects.equals(cached.path, entry.getPath())
+                        && Objects.equals(cached.acceptedPackages, acceptedPackages)
+                        && Objects.equals(cached.fingerprint, fingerprint)
+                        && cached.classes != null) {
+                    cachedEntries++;
+                    return cached;
+                }
+            } catch (IOException e) {
+                TypeScriptGenerator.getLogger().verbose("Ignoring unreadable classpath scan cache file: " + cacheFile);
+            }
+        }
+        final EntryIndex entryIndex = new EntryIndex();
+        entryIndex.path = entry.getPath();
+        entryIndex.acceptedPackages = acceptedPackages;
+        entryIndex.fingerprint = fingerprint;
+        entryIndex.classes = scanEntry(entry, acceptedPackages, verbose);
+        scannedEntries++;
+        if (fingerprint == null) {
+            return entryIndex;
+        }
+        try {
+            Files.createDirectories(cacheDirectory.toPath());
+            new ObjectMapper().writeValue(cacheFile, entryIndex);
+        } catch (IOException e) {
+            // entry will be scanned again next time
+            TypeScriptGenerator.getLogger().warning("Classpath scan cache file not stored: " + cacheFile + ": " + e);
+        }
+        return entryIndex;
+    }
+
+    private static List<ClassMetadata> scanEntry(File entry, List<String> acceptedPackages, boolean verbose) {
+        ClassGraph classGraph = new ClassGraph()
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility()
+                .overrideClasspath(entry);
+        if (!acceptedPackages.isEmpty()) {
+            classGraph = classGraph.acceptPackages(acceptedPackages.toArray(new String[0]));
+        }
+        if (verbose) {
+            classGraph = classGraph.verbose();
+        }
+        final List<ClassMetadata> result = new ArrayList<>();
+        try (ScanResult scanResult = classGraph.scan()) {
+            for (ClassInfo classInfo : scanResult.getAllClasses()) {
+                // jars referenced from manifest are scanned too but they are indexed as separate entries
+                if (!isSameFile(entry, classInfo.getClasspathElementFile())) {
+                    continue;
+                }
+                final ClassMetadata metadata = new ClassMetadata();
+                metadata.name = classInfo.getName();
+                metadata.kind = classInfo.isAnnotation() ? ClassKind.ANNOTATION
+                        : classInfo.isInterface() ? ClassKind.INTERFACE
+                        : ClassKind.CLASS;
+                metadata.superclass = classInfo.getSuperclass() != null ? classInfo.getSuperclass().getName() : null;
+                metadata.interfaces = classInfo.getInterfaces().directOnly().getNames();
+                metadata.annotations = classInfo.getAnnotationInfo().directOnly().getNames();
+                metadata.synthetic = classInfo.isSynthetic();
+                metadata.anonymous = classInfo.isAnonymousInnerClass();
+                result.add(metadata);
+            }
+        }
+        return result;
+    }
+
+    private void add(EntryIndex entryIndex) {
+        for (ClassMetadata metadata : entryIndex.classes) {
+            classes.putIfAbsent(metadata.name, metadata);
+        }
+    }
+
+    private void link() {
+        for (ClassMetadata metadata : classes.values()) {
+            if (metadata.kind == ClassKind.CLASS && metadata.superclass != null) {
+                subclasses.computeIfAbsent(metadata.superclass, key -> new ArrayList<>()).add(metadata.name);
+            }
+            for (String aInterface : metadata.interfaces) {
+                implementations.computeIfAbsent(aInterface, key -> new ArrayList<>()).add(metadata.name);
+            }
+            for (String annotation : metadata.annotations) {
+                annotatedClasses.computeIfAbsent(annotation, key -> new ArrayList<>()).add(metadata.name);
+            }
+        }
+    }
+
+    public int getScannedEntries() {
+        return scannedEntries;
+    }
+
+    public int getCachedEntries() {
+        return cachedEntries;
+    }
+
+    public int getClassCount() {
+        return classes.size();
+    }
+
+    /**
+     * Returns <code>true</code> if class is known to be synthetic or anonymous (based on metadata, without loading the class).
+     */
+    public boolean isSyntheticOrAnonymous(String className) {
+        final ClassMetadata metadata = classes.get(className);
+        return metadata != null && (metadata.synthetic || metadata.anonymous);
+    }
+
+    /**
+     * Returns names of all standard classes and interfaces (not annotations).
+     */
+    public List<String> getAllClassNames() {
+        return classes.values().stream()
+                .filter(metadata -> metadata.kind != ClassKind.ANNOTATION)
+                .map(metadata -> metadata.name)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    public List<String> getSubclasses(String superclassName) {
+        return sorted(getReachable(List.of(superclassName), subclasses));
+    }
+
+    /**
+     * Returns classes implementing specified interface (directly, through superclass or through subinterface) and subinterfaces.
+     */
+    public List<String> getClassesImplementing(String interfaceName) {
+        final Set<String> implementing = getReachable(List.of(interfaceName), implementations);
+        implementing.addAll(getReachable(implementing, subclasses));
+        return sorted(implementing);
+    }
+
+    /**
+     * Returns classes annotated with specified annotation, with annotation meta-annotated with it
+     * and subclasses of annotated classes if the annotation is <code>@Inherited</code>.
+     */
+    public List<String> getClassesWithAnnotation(String annotationName) {
+        final Set<String> annotated = getReachable(List.of(annotationName), annotatedClasses);
+        final ClassMetadata annotation = classes.get(annotationName);
+        if (annotation != null && annotation.annotations.contains(java.lang.annotation.Inherited.class.getName())) {
+            annotated.addAll(getReachable(annotated, subclasses));
+        }
+        return sorted(annotated);
+    }
+
+    private Set<String> getReachable(Iterable<String> names, Map<String, List<String>> relation) {
+        final Set<String> reachable = new HashSet<>();
+        final Deque<String> queue = new ArrayDeque<>();
+        names.forEach(queue::add);
+        while (!queue.isEmpty()) {
+            for (String related : relation.getOrDefault(queue.remove(), List.of())) {
+                if (reachable.add(related)) {
+                    queue.add(related);
+                }
+            }
+        }
+        return reachable;
+    }
+
+    private static List<String> sorted(Set<String> names) {
+        return names.stream().sorted().collect(Collectors.toList());
+    }
+
+    private static boolean isSameFile(File file1, File file2) {
+        try {
+            return file2 != null && Files.isSameFile(file1.toPath(), file2.toPath());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String getFingerprint(File entry) {
+        if (entry.isFile()) {
+            return entry.length() + ":" + entry.lastModified();
+        }
+        final Path root = entry.toPath();
+        try (Stream<Path> paths = Files.walk(root)) {
+            final StringBuilder sb = new StringBuilder();
+            paths.sorted().forEach(path -> {
+                try {
+                    final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        sb.append(root.relativize(path)).append(' ')
+                                .append(attributes.size()).append(' ')
+                                .append(attributes.lastModifiedTime().toMillis()).append('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return sha256(sb.toString());
+        } catch (IOException | UncheckedIOException e) {
+            // entry will be scanned again
+            return null;
+        }
+    }
+
+    private static String sha256(String text) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
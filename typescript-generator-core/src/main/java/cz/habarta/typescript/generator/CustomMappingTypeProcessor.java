@@ -7,29 +7,39 @@ import cz.habarta.typescript.generator.util.Utils;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
 public class CustomMappingTypeProcessor implements TypeProcessor {
     private final List<Settings.CustomTypeMapping> customMappings;
+    private final ClassValue<Optional<Settings.CustomTypeMapping>> mappingByRawClass = new ClassValue<Optional<Settings.CustomTypeMapping>>() {
+        @Override
+        protected Optional<Settings.CustomTypeMapping> computeValue(Class<?> rawClass) {
+            return findMapping(rawClass);
+        }
+    };
 
     public CustomMappingTypeProcessor(List<Settings.CustomTypeMapping> customMappings) {
         this.customMappings = customMappings;
     }
 
+    @Override
+    public boolean canProcess(Class<?> rawClass) {
+        return mappingByRawClass.get(rawClass).isPresent();
+    }
+
+    @Override
+    public boolean isCacheable(Object typeContext) {
+        return true;
+    }
+
     @Override
     public Result processType(Type javaType, Context context) {
         final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
         if (rawClass == null) {
             return null;
         }
-        final Settings.CustomTypeMapping mapping = customMappings.stream()
-                .filter(m -> m.matchSubclasses
-                        ? m.rawClass.isAssignableFrom(rawClass)
-                        : m.rawClass.equals(rawClass)
-                )
-                .filter(m -> GenericsResolver.typeParameterNameList(m.rawClass).equals(m.javaType.typeParameters) )
-                .findFirst()
-                .orElse(null);
+        final Settings.CustomTypeMapping mapping = mappingByRawClass.get(rawClass).orElse(null);
         if (mapping == null) {
             return null;
         }
@@ -69,4 +79,14 @@ public class CustomMappingTypeProcessor implements TypeProcessor {
         return new Result(new TsType.GenericBasicType(mapping.tsType.rawName, tsTypeArguments), discoveredClasses);
     }
 
+    private Optional<Settings.CustomTypeMapping> findMapping(Class<?> rawClass) {
+        return customMappings.stream()
+                .filter(m -> m.matchSubclasses
+                        ? m.rawClass.isAssignableFrom(rawClass)
+                        : m.rawClass.equals(rawClass)
+                )
+                .filter(m -> GenericsResolver.typeParameterNameList(m.rawClass).equals(m.javaType.typeParameters) )
+                .findFirst();
+    }
+
 }
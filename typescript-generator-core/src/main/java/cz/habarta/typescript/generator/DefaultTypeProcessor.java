@@ -14,6 +14,12 @@ import java.util.stream.Collectors;
 
 public class DefaultTypeProcessor implements TypeProcessor {
     private final LoadedDataLibraries known;
+    private final ClassValue<Classification> classifications = new ClassValue<Classification>() {
+        @Override
+        protected Classification computeValue(Class<?> cls) {
+            return classify(cls);
+        }
+    };
 
     public DefaultTypeProcessor() {
         this(null);
@@ -23,12 +29,75 @@ public class DefaultTypeProcessor implements TypeProcessor {
         this.known = LoadedDataLibraries.join(getKnownClasses(), dataLibraries);
     }
 
-    private static boolean isAssignableFrom(List<Class<?>> classes, Class<?> cls) {
-        return assignableFrom(classes, cls).isPresent();
+    private static Class<?> assignableFrom(List<Class<?>> classes, Class<?> cls) {
+        for (Class<?> c : classes) {
+            if (c.isAssignableFrom(cls)) {
+                return c;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Result of matching class against known classes, computed once per class.
+     */
+    private static class Classification {
+        /** string, number, boolean, date or void type (or <code>null</code>) */
+        public final TsType knownType;
+        public final boolean any;
+        public final KnownGenericKind knownGenericKind;
+        public final Class<?> knownGenericBaseClass;
+
+        public Classification(TsType knownType, boolean any, KnownGenericKind knownGenericKind, Class<?> knownGenericBaseClass) {
+            this.knownType = knownType;
+            this.any = any;
+            this.knownGenericKind = knownGenericKind;
+            this.knownGenericBaseClass = knownGenericBaseClass;
+        }
     }
 
-    private static Optional<Class<?>> assignableFrom(List<Class<?>> classes, Class<?> cls) {
-        return classes.stream().filter(c -> c.isAssignableFrom(cls)).findFirst();
+    private enum KnownGenericKind {
+        List, Map, Optional, Wrapper
+    }
+
+    private Classification classify(Class<?> cls) {
+        final TsType knownType;
+        if (assignableFrom(known.stringClasses, cls) != null) {
+            knownType = TsType.String;
+        } else if (assignableFrom(known.numberClasses, cls) != null) {
+            knownType = TsType.Number;
+        } else if (assignableFrom(known.booleanClasses, cls) != null) {
+            knownType = TsType.Boolean;
+        } else if (assignableFrom(known.dateClasses, cls) != null) {
+            knownType = TsType.Date;
+        } else if (assignableFrom(known.voidClasses, cls) != null) {
+            knownType = TsType.Void;
+        } else {
+            knownType = null;
+        }
+        final boolean any = assignableFrom(known.anyClasses, cls) != null;
+        final Class<?> listBaseClass = assignableFrom(known.listClasses, cls);
+        if (listBaseClass != null) {
+            return new Classification(knownType, any, KnownGenericKind.List, listBaseClass);
+        }
+        final Class<?> mapBaseClass = assignableFrom(known.mapClasses, cls);
+        if (mapBaseClass != null) {
+            return new Classification(knownType, any, KnownGenericKind.Map, mapBaseClass);
+        }
+        final Class<?> optionalBaseClass = assignableFrom(known.optionalClasses, cls);
+        if (optionalBaseClass != null) {
+            return new Classification(knownType, any, KnownGenericKind.Optional, optionalBaseClass);
+        }
+        final Class<?> wrapperBaseClass = assignableFrom(known.wrapperClasses, cls);
+        if (wrapperBaseClass != null) {
+            return new Classification(knownType, any, KnownGenericKind.Wrapper, wrapperBaseClass);
+        }
+        return new Classification(knownType, any, null, null);
+    }
+
+    @Override
+    public boolean isCacheable(Object typeContext) {
+        return true;
     }
 
     @Override
@@ -37,20 +106,9 @@ public class DefaultTypeProcessor implements TypeProcessor {
             return new Result(TsType.Any);
         }
         if (javaType instanceof Class<?> javaClass) {
-            if (isAssignableFrom(known.stringClasses, javaClass)) {
-                return new Result(TsType.String);
-            }
-            if (isAssignableFrom(known.numberClasses, javaClass)) {
-                return new Result(TsType.Number);
-            }
-            if (isAssignableFrom(known.booleanClasses, javaClass)) {
-                return new Result(TsType.Boolean);
-            }
-            if (isAssignableFrom(known.dateClasses, javaClass)) {
-                return new Result(TsType.Date);
-            }
-            if (isAssignableFrom(known.voidClasses, javaClass)) {
-                return new Result(TsType.Void);
+            final TsType knownType = classifications.get(javaClass).knownType;
+            if (knownType != null) {
+                return new Result(knownType);
             }
         }
         if (javaType instanceof Class<?> javaClass) {
@@ -60,7 +118,7 @@ public class DefaultTypeProcessor implements TypeProcessor {
             }
         }
         if (javaType instanceof Class<?> javaClass) {
-            if (isAssignableFrom(known.anyClasses, javaClass)) {
+            if (classifications.get(javaClass).any) {
                 return new Result(TsType.Any);
             }
             if (javaClass.isArray()) {
@@ -150,19 +208,19 @@ public class DefaultTypeProcessor implements TypeProcessor {
     }
 
     private Result processKnownGenericType(Type javaType, Class<?> rawClass, Context context) {
+        final Classification classification = classifications.get(rawClass);
+        if (classification.knownGenericKind == null) {
+            return null;
+        }
+        final List<Type> resolvedGenericVariables = GenericsResolver
+                .resolveBaseGenericVariables(classification.knownGenericBaseClass, javaType);
 
-        final Optional<Class<?>> listBaseClass = assignableFrom(known.listClasses, rawClass);
-        if (listBaseClass.isPresent()) {
-            final List<Type> resolvedGenericVariables = GenericsResolver
-                    .resolveBaseGenericVariables(listBaseClass.get(), javaType);
+        if (classification.knownGenericKind == KnownGenericKind.List) {
             final Result result = context.processTypeInsideCollection(resolvedGenericVariables.get(0));
             return new Result(new TsType.BasicArrayType(result.getTsType()), result.getDiscoveredClasses());
         }
 
-        final Optional<Class<?>> mapBaseClass = assignableFrom(known.mapClasses, rawClass);
-        if (mapBaseClass.isPresent()) {
-            final List<Type> resolvedGenericVariables = GenericsResolver.resolveBaseGenericVariables(mapBaseClass.get(),
-                    javaType);
+        if (classification.knownGenericKind == KnownGenericKind.Map) {
             final Result keyResult = context.processType(resolvedGenericVariables.get(0));
             final Result valueResult = context.processTypeInsideCollection(resolvedGenericVariables.get(1));
             final TsType valueTsType = valueResult.getTsType();
@@ -178,23 +236,14 @@ public class DefaultTypeProcessor implements TypeProcessor {
             }
         }
 
-        final Optional<Class<?>> optionalBaseClass = assignableFrom(known.optionalClasses, rawClass);
-        if (optionalBaseClass.isPresent()) {
-            final List<Type> resolvedGenericVariables = GenericsResolver
-                    .resolveBaseGenericVariables(optionalBaseClass.get(), javaType);
+        if (classification.knownGenericKind == KnownGenericKind.Optional) {
             final Result result = context.processType(resolvedGenericVariables.get(0));
             return new Result(result.getTsType().optional(), result.getDiscoveredClasses());
         }
 
-        final Optional<Class<?>> wrapperBaseClass = assignableFrom(known.wrapperClasses, rawClass);
-        if (wrapperBaseClass.isPresent()) {
-            final List<Type> resolvedGenericVariables = GenericsResolver
-                    .resolveBaseGenericVariables(wrapperBaseClass.get(), javaType);
-            final Result result = context.processType(resolvedGenericVariables.get(0));
-            return new Result(result.getTsType(), result.getDiscoveredClasses());
-        }
-
-        return null;
+        // wrapper
+        final Result result = context.processType(resolvedGenericVariables.get(0));
+        return new Result(result.getTsType(), result.getDiscoveredClasses());
     }
 
     private static LoadedDataLibraries getKnownClasses() {
@@ -29,6 +29,16 @@ public class ExcludingTypeProcessor implements TypeProcessor {
         this.excludeFilter = excludeFilter;
     }
 
+    @Override
+    public boolean isCacheable(Object typeContext) {
+        return true;
+    }
+
+    @Override
+    public boolean canProcess(Class<?> rawClass) {
+        return excludeFilter.test(rawClass.getName());
+    }
+
     @Override
     public Result processType(Type javaType, Context context) {
         final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
@@ -22,6 +22,7 @@ public abstract class Extension extends EmitterExtension {
         public final ModelCompiler.TransformationPhase phase;
         public final ModelTransformer transformer;
         public final TsModelTransformer tsTransformer;
+        public final TsType.Transformer typeTransformer;
 
         public TransformerDefinition(ModelCompiler.TransformationPhase phase, ModelTransformer transformer) {
             if (phase != ModelCompiler.TransformationPhase.BeforeTsModel) {
@@ -30,6 +31,7 @@ public abstract class Extension extends EmitterExtension {
             this.phase = phase;
             this.transformer = transformer;
             this.tsTransformer = null;
+            this.typeTransformer = null;
         }
 
         public TransformerDefinition(ModelCompiler.TransformationPhase phase, TsModelTransformer transformer) {
@@ -39,6 +41,24 @@ public abstract class Extension extends EmitterExtension {
             this.phase = phase;
             this.transformer = null;
             this.tsTransformer = transformer;
+            this.typeTransformer = null;
+        }
+
+        /**
+         * Transformer of types used in bean properties and methods.
+         * Type transformers are applied before {@link TsModelTransformer}s of the same phase,
+         * type transformers of one phase are applied together in single traversal of the model
+         * (in phase 'BeforeEnums' together with built-in map and date transformations)
+         * so they should be independent of each other (see {@link TsType.Transformer#compose(List)}).
+         */
+        public TransformerDefinition(ModelCompiler.TransformationPhase phase, TsType.Transformer transformer) {
+            if (phase == ModelCompiler.TransformationPhase.BeforeTsModel) {
+                throw new IllegalArgumentException("TsType.Transformer cannot be applied in phase 'BeforeTsModel'");
+            }
+            this.phase = phase;
+            this.transformer = null;
+            this.tsTransformer = null;
+            this.typeTransformer = transformer;
         }
 
     }
@@ -0,0 +1,382 @@
+package cz.habarta.typescript.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.habarta.typescript.generator.parser.BeanModel;
+import cz.habarta.typescript.generator.parser.EnumModel;
+import cz.habarta.typescript.generator.parser.MethodParameterModel;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.PropertyModel;
+import cz.habarta.typescript.generator.parser.RestApplicationModel;
+import cz.habarta.typescript.generator.parser.RestMethodModel;
+import cz.habarta.typescript.generator.parser.SourceType;
+import cz.habarta.typescript.generator.type.JTypeWithNullability;
+import cz.habarta.typescript.generator.type.JUnionType;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * On-disk cache of generated output which allows to skip parsing, compiling and emitting when nothing changed since previous run.
+ * Cache entry is valid when typescript-generator version, settings and input types are the same
+ * and all classes which contributed to the model (including their supertypes and <code>package-info</code> classes of their packages)
+ * and all classes supplied in settings (like extensions, custom type processor or model enrichers) have the same bytecode hash.
+ * Class files are read as class loader resources so checking the entry doesn't load or parse any class.
+ * See {@link Settings#incrementalCacheDirectory}.
+ */
+public class IncrementalGenerationCache {
+
+    private final File file;
+    private final String key;
+    private final ClassLoader classLoader;
+    private final Settings settings;
+
+    public IncrementalGenerationCache(Settings settings, Input input, String outputName) {
+        this.settings = settings;
+        this.file = new File(settings.incrementalCacheDirectory, sha256(String.valueOf(outputName)).substring(0, 16) + ".json");
+        this.key = sha256(getKeyDescription(settings, input));
+        this.classLoader = settings.classLoader != null ? settings.classLoader : Thread.currentThread().getContextClassLoader();
+    }
+
+    public static class Entry {
+        public String key;
+        public Map<String, String> fingerprints;
+        public String output;
+        public String infoJson;
+    }
+
+    /**
+     * Returns cached entry or <code>null</code> if there is no entry or it is outdated.
+     */
+    public Entry load() {
+        if (!file.isFile()) {
+            return null;
+        }
+        final Entry entry;
+        try {
+            entry = new ObjectMapper().readValue(file, Entry.class);
+        } catch (IOException e) {
+            TypeScriptGenerator.getLogger().verbose("Ignoring unreadable incremental cache file: " + file);
+            return null;
+        }
+        if (!Objects.equals(entry.key, key) || entry.fingerprints == null || entry.output == null) {
+            return null;
+        }
+        try {
+            for (Map.Entry<String, String> fingerprint : entry.fingerprints.entrySet()) {
+                if (!Objects.equals(fingerprint.getValue(), getFingerprint(fingerprint.getKey()))) {
+                    TypeScriptGenerator.getLogger().verbose("Incremental cache outdated by: " + fingerprint.getKey());
+                    return null;
+                }
+            }
+        } catch (IOException e) {
+            TypeScriptGenerator.getLogger().warning("Ignoring incremental cache, cannot check class files: " + e);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Stores generated output, failures are only logged because the cache is optional.
+     */
+    public void store(Model model, String output, String infoJson) {
+        try {
+            final Map<String, String> fingerprints = new TreeMap<>();
+            final Set<Class<?>> contributingClasses = getContributingClasses(model);
+            for (Class<?> cls : contributingClasses) {
+                final String resource = getClassResource(cls);
+                final String fingerprint = getFingerprint(resource);
+                if (fingerprint == null) {
+                    TypeScriptGenerator.getLogger().verbose("Not storing incremental cache, class file not found: " + resource);
+                    return;
+                }
+                fingerprints.put(resource, fingerprint);
+            }
+            // following resources may not exist, missing resource is stored as null and must stay missing
+            final Set<String> optionalResources = new LinkedHashSet<>();
+            for (Class<?> cls : contributingClasses) {
+                final String packagePath = cls.getPackageName().replace('.', '/');
+                optionalResources.add(packagePath.isEmpty() ? "package-info.class" : packagePath + "/package-info.class");
+            }
+            for (Class<?> cls : getSettingsClasses(settings)) {
+                optionalResources.add(getClassResource(cls));
+            }
+            for (String resource : optionalResources) {
+                if (!fingerprints.containsKey(resource)) {
+                    fingerprints.put(resource, getFingerprint(resource));
+                }
+            }
+            if (settings.javadocXmlFiles != null) {
+                for (File javadocXmlFile : settings.javadocXmlFiles) {
+                    final String resource = "file:" + javadocXmlFile.getAbsolutePath();
+                    fingerprints.put(resource, getFingerprint(resource));
+                }
+            }
+            final Entry entry = new Entry();
+            entry.key = key;
+            entry.fingerprints = fingerprints;
+            entry.output = output;
+            entry.infoJson = infoJson;
+            Files.createDirectories(file.getParentFile().toPath());
+            new ObjectMapper().writeValue(file, entry);
+        } catch (IOException e) {
+            TypeScriptGenerator.getLogger().warning("Incremental cache not stored to " + file + ": " + e);
+        }
+    }
+
+    /**
+     * Returns hash of class file (or other file prefixed with <code>file:</code>) or <code>null</code> if it doesn't exist.
+     */
+    private String getFingerprint(String resource) throws IOException {
+        if (resource.startsWith("file:")) {
+            final Path path = Path.of(resource.substring("file:".length()));
+            return Files.isRegularFile(path) ? sha256(Files.readAllBytes(path)) : null;
+        }
+        try (InputStream inputStream = classLoader.getResourceAsStream(resource)) {
+            return inputStream != null ? sha256(inputStream.readAllBytes()) : null;
+        }
+    }
+
+    private static String getClassResource(Class<?> cls) {
+        return cls.getName().replace('.', '/') + ".class";
+    }
+
+    /**
+     * Classes of objects and class values supplied in settings (like extensions, custom type processor, model enrichers or Jackson modules)
+     * together with their supertypes. Their code can affect the output but it is not described by settings part of the cache key.
+     */
+    private static Set<Class<?>> getSettingsClasses(Settings settings) {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        for (Field field : Settings.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.getType() == ClassLoader.class) {
+                continue;
+            }
+            try {
+                addSettingsValueClasses(classes, field.get(settings), 0);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return classes;
+    }
+
+    private static void addSettingsValueClasses(Set<Class<?>> classes, Object value, int depth) {
+        if (value == null || depth > 2) {
+            return;
+        }
+        if (value instanceof Class<?> cls) {
+            addClass(classes, cls);
+        } else if (value instanceof Collection<?> collection) {
+            for (Object item : collection) {
+                addSettingsValueClasses(classes, item, depth + 1);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                addSettingsValueClasses(classes, entry.getKey(), depth + 1);
+                addSettingsValueClasses(classes, entry.getValue(), depth + 1);
+            }
+        } else {
+            final Class<?> cls = value.getClass();
+            if (cls.getClassLoader() == null) {
+                return;
+            }
+            // hidden classes (lambdas) have no class file, their code is in nest host
+            addClass(classes, cls.isHidden() ? cls.getNestHost() : cls);
+            for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        addSettingsValueClasses(classes, field.get(value), depth + 1);
+                    } catch (RuntimeException | IllegalAccessException e) {
+                        // value which cannot be accessed is only described by its class
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Classes used in the model together with their supertypes.
+     * Any change in a class which could affect the output changes bytecode of at least one of these classes.
+     * JDK classes are covered by Java version in the cache key.
+     */
+    private static Set<Class<?>> getContributingClasses(Model model) {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        for (BeanModel bean : model.getBeans()) {
+            addClass(classes, bean.getOrigin());
+            bean.getParentAndInterfaces().forEach(type -> addType(classes, type));
+            if (bean.getTaggedUnionClasses() != null) {
+                bean.getTaggedUnionClasses().forEach(cls -> addClass(classes, cls));
+            }
+            for (PropertyModel property : bean.getProperties()) {
+                addType(classes, property.getType());
+            }
+        }
+        for (EnumModel enumModel : model.getEnums()) {
+            addClass(classes, enumModel.getOrigin());
+        }
+        for (RestApplicationModel restApplication : model.getRestApplications()) {
+            for (RestMethodModel method : restApplication.getMethods()) {
+                addClass(classes, method.getRootResource());
+                addClass(classes, method.getOriginClass());
+                addType(classes, method.getReturnType());
+                for (MethodParameterModel parameter : method.getParameters()) {
+                    addType(classes, parameter.getType());
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static void addType(Set<Class<?>> classes, Type type) {
+        if (type instanceof Class<?> cls) {
+            addClass(classes, cls);
+        } else if (type instanceof ParameterizedType parameterizedType) {
+            addType(classes, parameterizedType.getRawType());
+            for (Type typeArgument : parameterizedType.getActualTypeArguments()) {
+                addType(classes, typeArgument);
+            }
+        } else if (type instanceof GenericArrayType genericArrayType) {
+            addType(classes, genericArrayType.getGenericComponentType());
+        } else if (type instanceof WildcardType wildcardType) {
+            for (Type bound : wildcardType.getUpperBounds()) {
+                addType(classes, bound);
+            }
+            for (Type bound : wildcardType.getLowerBounds()) {
+                addType(classes, bound);
+            }
+        } else if (type instanceof JUnionType unionType) {
+            unionType.getTypes().forEach(t -> addType(classes, t));
+        } else if (type instanceof JTypeWithNullability typeWithNullability) {
+            addType(classes, typeWithNullability.getType());
+        }
+    }
+
+    private static void addClass(Set<Class<?>> classes, Class<?> cls) {
+        while (cls != null && cls.isArray()) {
+            cls = cls.getComponentType();
+        }
+        if (cls == null || cls.isPrimitive() || cls.getClassLoader() == null || !classes.add(cls)) {
+            return;
+        }
+        addClass(classes, cls.getSuperclass());
+        for (Class<?> anInterface : cls.getInterfaces()) {
+            addClass(classes, anInterface);
+        }
+        addClass(classes, cls.getEnclosingClass());
+    }
+
+    private static String getKeyDescription(Settings settings, Input input) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(TypeScriptGenerator.Version).append('\n');
+        sb.append(System.getProperty("java.version")).append('\n');
+        for (Field field : Settings.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.getType() == ClassLoader.class) {
+                continue;
+            }
+            try {
+                sb.append(field.getName()).append('=').append(describe(field.get(settings), 0)).append('\n');
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        // exclude filter is not a public field
+        sb.append("excludedClasses=").append(describe(settings.getExcludedClasses(), 0)).append('\n');
+        sb.append("excludedClassPatterns=").append(describe(settings.getExcludedClassPatterns(), 0)).append('\n');
+        for (SourceType<Type> sourceType : input.getSourceTypes()) {
+            sb.append(sourceType.type.getTypeName()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Stable text representation of settings value, objects without meaningful <code>toString</code>
+     * (like extensions or type processors) are described using their class name and field values.
+     */
+    private static String describe(Object value, int depth) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof File || value instanceof Path) {
+            return value.toString();
+        }
+        if (value instanceof Class<?> cls) {
+            return cls.getName();
+        }
+        if (value instanceof Pattern pattern) {
+            return pattern.pattern();
+        }
+        if (value instanceof Collection<?> collection) {
+            final StringBuilder sb = new StringBuilder("[");
+            for (Object item : collection) {
+                sb.append(describe(item, depth + 1)).append(',');
+            }
+            return sb.append(']').toString();
+        }
+        if (value instanceof Map<?, ?> map) {
+            final StringBuilder sb = new StringBuilder("{");
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                sb.append(describe(entry.getKey(), depth + 1)).append(':').append(describe(entry.getValue(), depth + 1)).append(',');
+            }
+            return sb.append('}').toString();
+        }
+        final Class<?> cls = value.getClass();
+        // hidden classes (lambdas) have names which differ between runs
+        final String className = cls.isHidden() ? cls.getName().substring(0, cls.getName().indexOf('/')) : cls.getName();
+        if (cls.getClassLoader() == null || depth > 1) {
+            return className;
+        }
+        final Map<String, String> fields = new LinkedHashMap<>();
+        for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    fields.put(field.getName(), describe(field.get(value), depth + 1));
+                } catch (RuntimeException | IllegalAccessException e) {
+                    fields.put(field.getName(), "?");
+                }
+            }
+        }
+        return className + fields;
+    }
+
+    private static String sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -2,15 +2,16 @@
 package cz.habarta.typescript.generator;
 
 import cz.habarta.typescript.generator.parser.SourceType;
-import cz.habarta.typescript.generator.util.Utils;
+import cz.habarta.typescript.generator.util.ClassNameGlobMatcher;
 import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
 
+import java.io.File;
 import java.lang.reflect.Type;
 import java.net.URLClassLoader;
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class Input {
@@ -44,6 +45,7 @@ public class Input {
         public Predicate<String> isClassNameExcluded;
         public URLClassLoader classLoader;
         public List<String> scanningAcceptedPackages;
+        public File scanningCacheDirectory;
         public boolean debug;
     }
 
@@ -54,42 +56,39 @@ public class Input {
                 Thread.currentThread().setContextClassLoader(parameters.classLoader);
             }
             try (final ClasspathScanner classpathScanner = new ClasspathScanner(parameters.classLoader,
-                    parameters.scanningAcceptedPackages, parameters.debug)) {
+                    getScanningAcceptedPackages(parameters), parameters.scanningCacheDirectory, parameters.debug)) {
                 final List<SourceType<Type>> types = new ArrayList<>();
                 if (parameters.classNames != null) {
                     types.addAll(fromClassNames(parameters.classNames));
                 }
                 if (parameters.classNamePatterns != null) {
-                    types.addAll(fromClassNamePatterns(classpathScanner.getScanResult(), parameters.classNamePatterns));
+                    types.addAll(fromClassNamePatterns(classpathScanner, parameters.classNamePatterns, parameters.isClassNameExcluded));
                 }
                 if (parameters.classesImplementingInterfaces != null) {
-                    final ScanResult scanResult = classpathScanner.getScanResult();
-                    final List<SourceType<Type>> c = fromClassNames(parameters.classesImplementingInterfaces.stream()
-                            .flatMap(interf -> scanResult.getClassesImplementing(interf).getNames().stream())
+                    final List<SourceType<Type>> c = fromScannedClassNames(classpathScanner, parameters.classesImplementingInterfaces.stream()
+                            .flatMap(interf -> classpathScanner.getClassesImplementing(interf).stream())
                             .distinct()
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList()), parameters.isClassNameExcluded);
                     types.addAll(c);
                 }
                 if (parameters.classesExtendingClasses != null) {
-                    final ScanResult scanResult = classpathScanner.getScanResult();
-                    final List<SourceType<Type>> c = fromClassNames(parameters.classesExtendingClasses.stream()
-                            .flatMap(superclass -> scanResult.getSubclasses(superclass).getNames().stream())
+                    final List<SourceType<Type>> c = fromScannedClassNames(classpathScanner, parameters.classesExtendingClasses.stream()
+                            .flatMap(superclass -> classpathScanner.getSubclasses(superclass).stream())
                             .distinct()
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList()), parameters.isClassNameExcluded);
                     types.addAll(c);
                 }
                 if (parameters.classesWithAnnotations != null) {
-                    final ScanResult scanResult = classpathScanner.getScanResult();
-                    types.addAll(fromClassNames(parameters.classesWithAnnotations.stream()
-                            .flatMap(annotation -> scanResult.getClassesWithAnnotation(annotation).getNames().stream())
+                    types.addAll(fromScannedClassNames(classpathScanner, parameters.classesWithAnnotations.stream()
+                            .flatMap(annotation -> classpathScanner.getClassesWithAnnotation(annotation).stream())
                             .distinct()
-                            .collect(Collectors.toList())));
+                            .collect(Collectors.toList()), parameters.isClassNameExcluded));
                 }
                 if (parameters.jaxrsApplicationClassName != null) {
                     types.addAll(fromClassNames(List.of(parameters.jaxrsApplicationClassName)));
                 }
                 if (parameters.automaticJaxrsApplication) {
-                    types.addAll(JaxrsApplicationScanner.scanAutomaticJaxrsApplication(classpathScanner.getScanResult(),
+                    types.addAll(JaxrsApplicationScanner.scanAutomaticJaxrsApplication(classpathScanner::getClassesWithAnnotation,
                             parameters.isClassNameExcluded));
                 }
                 if (types.isEmpty()) {
@@ -108,15 +107,77 @@ public class Input {
 
         private final URLClassLoader classLoader;
         private final List<String> acceptedPackages;
+        private final File cacheDirectory;
         private final boolean verbose;
         private ScanResult scanResult = null;
+        private ClasspathScanIndex scanIndex = null;
 
-        public ClasspathScanner(URLClassLoader classLoader, List<String> acceptedPackages, boolean verbose) {
+        public ClasspathScanner(URLClassLoader classLoader, List<String> acceptedPackages, File cacheDirectory, boolean verbose) {
             this.classLoader = classLoader;
             this.acceptedPackages = acceptedPackages;
+            this.cacheDirectory = cacheDirectory;
             this.verbose = verbose;
         }
 
+        public List<String> getAllClassNames() {
+            if (cacheDirectory != null) {
+                return getScanIndex().getAllClassNames();
+            }
+            final List<String> allClassNames = new ArrayList<>();
+            allClassNames.addAll(getScanResult().getAllStandardClasses().getNames());
+            allClassNames.addAll(getScanResult().getAllInterfaces().getNames());
+            Collections.sort(allClassNames);
+            return allClassNames;
+        }
+
+        public List<String> getClassesImplementing(String interfaceName) {
+            return cacheDirectory != null
+                    ? getScanIndex().getClassesImplementing(interfaceName)
+                    : getScanResult().getClassesImplementing(interfaceName).getNames();
+        }
+
+        public List<String> getSubclasses(String superclassName) {
+            return cacheDirectory != null
+                    ? getScanIndex().getSubclasses(superclassName)
+                    : getScanResult().getSubclasses(superclassName).getNames();
+        }
+
+        public List<String> getClassesWithAnnotation(String annotationName) {
+            return cacheDirectory != null
+                    ? getScanIndex().getClassesWithAnnotation(annotationName)
+                    : getScanResult().getClassesWithAnnotation(annotationName).getNames();
+        }
+
+        /**
+         * Uses scanned metadata so that synthetic and anonymous classes don't need to be loaded.
+         */
+        public boolean isSyntheticOrAnonymous(String className) {
+            if (cacheDirectory != null) {
+                return getScanIndex().isSyntheticOrAnonymous(className);
+            }
+            final ClassInfo classInfo = getScanResult().getClassInfo(className);
+            return classInfo != null && (classInfo.isSynthetic() || classInfo.isAnonymousInnerClass());
+        }
+
+        private ClasspathScanIndex getScanIndex() {
+            if (scanIndex == null) {
+                TypeScriptGenerator.getLogger().info("Scanning classpath (using cache " + cacheDirectory + ")");
+                final Date scanStart = new Date();
+                ClassGraph classGraph = new ClassGraph();
+                if (classLoader != null) {
+                    classGraph = classGraph.overrideClasspath((Object[]) classLoader.getURLs());
+                }
+                final ClasspathScanIndex index = ClasspathScanIndex.create(classGraph.getClasspathFiles(), acceptedPackages, cacheDirectory, verbose);
+                final Date scanEnd = new Date();
+                final double timeInSeconds = (scanEnd.getTime() - scanStart.getTime()) / 1000.0;
+                TypeScriptGenerator.getLogger().info(String.format(
+                        "Scanning finished in %.2f seconds. Total number of classes: %d. Classpath entries scanned: %d, loaded from cache: %d.",
+                        timeInSeconds, index.getClassCount(), index.getScannedEntries(), index.getCachedEntries()));
+                scanIndex = index;
+            }
+            return scanIndex;
+        }
+
         public ScanResult getScanResult() {
             if (scanResult == null) {
                 TypeScriptGenerator.getLogger().info("Scanning classpath");
@@ -154,14 +215,27 @@ public class Input {
 
     }
 
-    private static List<SourceType<Type>> fromClassNamePatterns(ScanResult scanResult, List<String> classNamePatterns) {
-        final List<String> allClassNames = new ArrayList<>();
-        allClassNames.addAll(scanResult.getAllStandardClasses().getNames());
-        allClassNames.addAll(scanResult.getAllInterfaces().getNames());
-        Collections.sort(allClassNames);
-        final List<String> classNames = filterClassNames(allClassNames, classNamePatterns);
+    private static List<SourceType<Type>> fromClassNamePatterns(ClasspathScanner classpathScanner, List<String> classNamePatterns,
+            Predicate<String> isClassNameExcluded) {
+        final List<String> classNames = filterClassNames(classpathScanner.getAllClassNames(), classNamePatterns);
         TypeScriptGenerator.getLogger().info(String.format("Found %d classes matching pattern.", classNames.size()));
-        return fromClassNames(classNames);
+        return fromScannedClassNames(classpathScanner, classNames, isClassNameExcluded);
+    }
+
+    /**
+     * Skips excluded, synthetic and anonymous classes before they are loaded.
+     */
+    private static List<SourceType<Type>> fromScannedClassNames(ClasspathScanner classpathScanner, List<String> classNames,
+            Predicate<String> isClassNameExcluded) {
+        final List<String> filteredClassNames = classNames.stream()
+                .filter(className -> isClassNameExcluded == null || !isClassNameExcluded.test(className))
+                .filter(className -> !classpathScanner.isSyntheticOrAnonymous(className))
+                .collect(Collectors.toList());
+        if (filteredClassNames.size() < classNames.size()) {
+            TypeScriptGenerator.getLogger().verbose(String.format("Skipped %d excluded, synthetic or anonymous classes.",
+                    classNames.size() - filteredClassNames.size()));
+        }
+        return fromClassNames(filteredClassNames);
     }
 
     private static List<SourceType<Type>> fromClassNames(List<String> classNames) {
@@ -176,30 +250,57 @@ public class Input {
         return types;
     }
 
+    /**
+     * Loads classes in parallel using context class loader of calling thread, result is in the same order as class names.
+     */
     static List<Class<?>> loadClasses(List<String> classNames) {
-        final List<Class<?>> classes = new ArrayList<>();
-        for (String className : classNames) {
-            try {
-                final Class<?> cls = Thread.currentThread().getContextClassLoader().loadClass(className);
-                classes.add(cls);
-            } catch (ReflectiveOperationException e) {
-                final String errorMessage = String.format("Cannot load class '%s'", className);
-                TypeScriptGenerator.getLogger().error(errorMessage);
-                throw new RuntimeException(errorMessage, e);
-            }
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classNames.parallelStream()
+                .<Class<?>>map(className -> loadClass(classLoader, className))
+                .collect(Collectors.toList());
+    }
+
+    private static Class<?> loadClass(ClassLoader classLoader, String className) {
+        try {
+            return classLoader.loadClass(className);
+        } catch (ReflectiveOperationException e) {
+            final String errorMessage = String.format("Cannot load class '%s'", className);
+            TypeScriptGenerator.getLogger().error(errorMessage);
+            throw new RuntimeException(errorMessage, e);
         }
-        return classes;
     }
 
     static List<String> filterClassNames(List<String> classNames, List<String> globs) {
-        final List<Pattern> regexps = Utils.globsToRegexps(globs);
+        final ClassNameGlobMatcher matcher = ClassNameGlobMatcher.compile(globs);
         final List<String> result = new ArrayList<>();
         for (String className : classNames) {
-            if (Utils.classNameMatches(className, regexps)) {
+            if (matcher.test(className)) {
                 result.add(className);
             }
         }
         return result;
     }
 
+    /**
+     * Returns packages which need to be scanned, either specified explicitly
+     * or derived from class name patterns when they are the only input which requires scanning.
+     */
+    private static List<String> getScanningAcceptedPackages(Parameters parameters) {
+        if (parameters.scanningAcceptedPackages != null && !parameters.scanningAcceptedPackages.isEmpty()) {
+            return parameters.scanningAcceptedPackages;
+        }
+        if (parameters.classNamePatterns != null
+                && parameters.classesImplementingInterfaces == null
+                && parameters.classesExtendingClasses == null
+                && parameters.classesWithAnnotations == null
+                && !parameters.automaticJaxrsApplication) {
+            final List<String> packages = ClassNameGlobMatcher.getPackages(parameters.classNamePatterns);
+            if (packages != null && !packages.isEmpty()) {
+                TypeScriptGenerator.getLogger().verbose("Scanning packages derived from class patterns: " + packages);
+                return packages;
+            }
+        }
+        return parameters.scanningAcceptedPackages;
+    }
+
 }
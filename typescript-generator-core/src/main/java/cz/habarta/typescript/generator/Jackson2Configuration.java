@@ -81,4 +81,13 @@ public class Jackson2Configuration {
      */
     public String view;
 
+    /**
+     * If <code>true</code> bean properties are read directly from Jackson <code>BeanDescription</code>
+     * instead of constructing complete serializers and deserializers for each bean, which is faster.
+     * Results can differ in edge cases which are handled by custom serializer factories
+     * (for example properties added or removed by <code>BeanSerializerModifier</code>).
+     * Default value is <code>false</code>.
+     */
+    public boolean introspectPropertiesWithoutSerializers;
+
 }
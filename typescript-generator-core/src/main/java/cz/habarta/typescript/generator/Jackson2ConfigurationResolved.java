@@ -25,6 +25,7 @@ public class Jackson2ConfigurationResolved {
     @SuppressWarnings("rawtypes")
     public Map<Class<? extends JsonDeserializer>, String> deserializerTypeMappings;
     public Class<?> view;
+    public boolean introspectPropertiesWithoutSerializers;
 
     public static Jackson2ConfigurationResolved from(Jackson2Configuration configuration, ClassLoader classLoader) {
         final Jackson2ConfigurationResolved resolved = new Jackson2ConfigurationResolved();
@@ -47,6 +48,7 @@ public class Jackson2ConfigurationResolved {
                 Function.identity());
         resolved.view = configuration.view != null ? Settings.loadClass(classLoader, configuration.view, Object.class)
                 : null;
+        resolved.introspectPropertiesWithoutSerializers = configuration.introspectPropertiesWithoutSerializers;
         return resolved;
     }
 
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 public class JaxrsApplicationScanner {
@@ -48,9 +49,15 @@ public class JaxrsApplicationScanner {
 
     public static List<SourceType<Type>> scanAutomaticJaxrsApplication(ScanResult scanResult,
             Predicate<String> isClassNameExcluded) {
+        return scanAutomaticJaxrsApplication(
+                annotation -> scanResult.getClassesWithAnnotation(annotation).getNames(), isClassNameExcluded);
+    }
+
+    public static List<SourceType<Type>> scanAutomaticJaxrsApplication(Function<String, List<String>> classesWithAnnotation,
+            Predicate<String> isClassNameExcluded) {
         final List<String> namesOfResourceClasses = Utils.concat(
-                scanResult.getClassesWithAnnotation(jakarta.ws.rs.Path.class.getName()).getNames(),
-                scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).getNames());
+                classesWithAnnotation.apply(jakarta.ws.rs.Path.class.getName()),
+                classesWithAnnotation.apply(javax.ws.rs.Path.class.getName()));
         final List<Class<?>> resourceClasses = Input.loadClasses(namesOfResourceClasses);
         TypeScriptGenerator.getLogger().info(String.format("Found %d root resources.", resourceClasses.size()));
         return new JaxrsApplicationScanner().scanJaxrsApplication(null, resourceClasses, isClassNameExcluded);
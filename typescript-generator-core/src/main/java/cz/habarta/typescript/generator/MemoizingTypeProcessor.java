@@ -0,0 +1,112 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.type.TypeKey;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers results of {@link #processTypeInTemporaryContext(Type, Object, Settings)} calls
+ * for the lifetime of one {@link TypeScriptGenerator}.
+ * Only results for which the delegate {@link TypeProcessor#isCacheable(Object) declares} that they don't depend
+ * on anything else than the type and type context are remembered.
+ * Calls with regular (non-temporary) context are always delegated because they register symbols in the symbol table.
+ */
+public class MemoizingTypeProcessor implements TypeProcessor {
+    private final TypeProcessor delegate;
+    private final Map<CacheKey, Optional<Result>> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder uncacheable = new LongAdder();
+
+    public MemoizingTypeProcessor(TypeProcessor delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    @Override
+    public Result processType(Type javaType, Context context) {
+        return delegate.processType(javaType, context);
+    }
+
+    @Override
+    public boolean isCacheable(Object typeContext) {
+        return delegate.isCacheable(typeContext);
+    }
+
+    @Override
+    public boolean canProcess(Class<?> rawClass) {
+        return delegate.canProcess(rawClass);
+    }
+
+    @Override
+    public Result processTypeInTemporaryContext(Type type, Object typeContext, Settings settings) {
+        if (!delegate.isCacheable(typeContext)) {
+            uncacheable.increment();
+            return delegate.processTypeInTemporaryContext(type, typeContext, settings);
+        }
+        final CacheKey key = new CacheKey(TypeKey.of(type), typeContext);
+        final Optional<Result> cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached.orElse(null);
+        }
+        misses.increment();
+        final Result result = delegate.processTypeInTemporaryContext(type, typeContext, settings);
+        cache.putIfAbsent(key, Optional.ofNullable(result));
+        return result;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getUncacheable() {
+        return uncacheable.sum();
+    }
+
+    public double getHitRate() {
+        final long lookups = getHits() + getMisses();
+        return lookups > 0 ? (double) getHits() / lookups : 0.0;
+    }
+
+    public String getStatistics() {
+        return String.format("TypeProcessor cache: %d hits, %d misses (hit rate %.1f %%), %d uncacheable calls",
+                getHits(), getMisses(), getHitRate() * 100, getUncacheable());
+    }
+
+    private static final class CacheKey {
+        private final TypeKey type;
+        private final Object typeContext;
+
+        CacheKey(TypeKey type, Object typeContext) {
+            this.type = type;
+            this.typeContext = typeContext;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Objects.hashCode(typeContext);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof CacheKey that) {
+                return type.equals(that.type) && Objects.equals(typeContext, that.typeContext);
+            } else {
+                return false;
+            }
+        }
+    }
+
+}
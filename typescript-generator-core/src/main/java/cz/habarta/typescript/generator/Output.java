@@ -3,6 +3,11 @@ package cz.habarta.typescript.generator;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Pattern;
 
 public class Output {
     private final Writer writer;
@@ -37,6 +42,19 @@ public class Output {
         }
     }
 
+    /**
+     * Creates output which is rendered in memory and written to the file only when its content changed.
+     * Timestamp in file comment is ignored when comparing with existing file,
+     * unchanged file is not touched at all so its modification time is preserved.
+     * Changed file is replaced atomically if supported by file system.
+     */
+    public static Output to(File file, boolean writeOnlyIfChanged) {
+        if (!writeOnlyIfChanged) {
+            return to(file);
+        }
+        return new Output(new ChangedContentWriter(file), file.toString(), true);
+    }
+
     public static Output to(OutputStream outputStream) {
         return new Output(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), null, false);
     }
@@ -45,4 +63,49 @@ public class Output {
         return new Output(writer, null, false);
     }
 
+    private static class ChangedContentWriter extends StringWriter {
+        private static final Pattern TimestampPattern = Pattern.compile(
+                "^(// Generated using typescript-generator version .*) on \\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.$",
+                Pattern.MULTILINE);
+
+        private final File file;
+        private boolean closed = false;
+
+        public ChangedContentWriter(File file) {
+            this.file = file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final String content = toString();
+            final Path path = file.toPath();
+            if (Files.isRegularFile(path)
+                    && withoutTimestamp(Files.readString(path, StandardCharsets.UTF_8)).equals(withoutTimestamp(content))) {
+                TypeScriptGenerator.getLogger().info("Unchanged: " + file);
+                return;
+            }
+            final Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            final Path tempFile = Files.createTempFile(directory, file.getName(), ".tmp");
+            try {
+                Files.writeString(tempFile, content, StandardCharsets.UTF_8);
+                try {
+                    Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        private static String withoutTimestamp(String content) {
+            return TimestampPattern.matcher(content).replaceFirst("$1");
+        }
+    }
+
 }
@@ -9,8 +9,10 @@ import cz.habarta.typescript.generator.compiler.SymbolTable.CustomTypeNamingFunc
 import cz.habarta.typescript.generator.emitter.EmitterExtension;
 import cz.habarta.typescript.generator.emitter.EmitterExtensionFeatures;
 import cz.habarta.typescript.generator.parser.JaxrsApplicationParser;
+import cz.habarta.typescript.generator.parser.ModelEnricher;
 import cz.habarta.typescript.generator.parser.RestApplicationParser;
 import cz.habarta.typescript.generator.parser.TypeParser;
+import cz.habarta.typescript.generator.util.ClassNameGlobMatcher;
 import cz.habarta.typescript.generator.util.Pair;
 import cz.habarta.typescript.generator.util.Utils;
 import tools.jackson.databind.JacksonModule;
@@ -53,6 +55,8 @@ public class Settings {
     public List<String> additionalDataLibraries = new ArrayList<>();
     private LoadedDataLibraries loadedDataLibrariesClasses = null;
     private Predicate<String> excludeFilter = null;
+    private List<String> excludedClasses = null;
+    private List<String> excludedClassPatterns = null;
     public OptionalProperties optionalProperties; // default is OptionalProperties.useSpecifiedAnnotations
     public OptionalPropertiesDeclaration optionalPropertiesDeclaration; // default is OptionalPropertiesDeclaration.questionMark
     public NullabilityDefinition nullabilityDefinition; // default is NullabilityDefinition.nullInlineUnion
@@ -90,6 +94,7 @@ public class Settings {
     public boolean generateSpringApplicationInterface = false;
     public boolean generateSpringApplicationClient = false;
     public boolean scanSpringApplication;
+    public boolean lightweightSpringApplicationScan;
     public RestNamespacing restNamespacing;
     public Class<? extends Annotation> restNamespacingAnnotation = null;
     public String restNamespacingAnnotationElement; // default is "value"
@@ -100,12 +105,17 @@ public class Settings {
     public TypeProcessor customTypeProcessor = null;
     public boolean sortDeclarations = false;
     public boolean sortTypeDeclarations = false;
+    public int parserParallelism = 1;
+    public boolean internTsTypes = false;
+    public File incrementalCacheDirectory = null;
+    public boolean writeOnlyChangedFiles = false;
     public boolean noFileComment = false;
     public boolean noTslintDisable = false;
     public boolean noEslintDisable = false;
     public boolean tsNoCheck = false;
     public List<File> javadocXmlFiles = null;
     public List<EmitterExtension> extensions = new ArrayList<>();
+    public List<ModelEnricher> modelEnrichers = new ArrayList<>();
     public List<Class<? extends Annotation>> includePropertyAnnotations = new ArrayList<>();
     public List<Class<? extends Annotation>> excludePropertyAnnotations = new ArrayList<>();
     public List<Class<? extends Annotation>> optionalAnnotations = new ArrayList<>();
@@ -258,6 +268,12 @@ public class Settings {
         }
     }
 
+    public void loadModelEnrichers(ClassLoader classLoader, List<String> modelEnrichers) {
+        if (modelEnrichers != null) {
+            this.modelEnrichers = loadInstances(classLoader, modelEnrichers, ModelEnricher.class);
+        }
+    }
+
     public void loadNonConstEnumAnnotations(ClassLoader classLoader, List<String> stringAnnotations) {
         this.nonConstEnumAnnotations = loadClasses(classLoader, stringAnnotations, Annotation.class);
     }
@@ -338,6 +354,9 @@ public class Settings {
         if (jsonLibrary == null) {
             throw new RuntimeException("Required 'jsonLibrary' parameter is not configured.");
         }
+        if (parserParallelism < 1) {
+            throw new RuntimeException("'parserParallelism' parameter must be a positive number.");
+        }
         if (jackson2Configuration != null && jsonLibrary != JsonLibrary.jackson2) {
             throw new RuntimeException("'jackson2Configuration' parameter is only applicable to 'jackson2' library.");
         }
@@ -729,6 +748,16 @@ public class Settings {
 
     public void setExcludeFilter(List<String> excludedClasses, List<String> excludedClassPatterns) {
         this.excludeFilter = createExcludeFilter(excludedClasses, excludedClassPatterns);
+        this.excludedClasses = excludedClasses;
+        this.excludedClassPatterns = excludedClassPatterns;
+    }
+
+    public List<String> getExcludedClasses() {
+        return excludedClasses;
+    }
+
+    public List<String> getExcludedClassPatterns() {
+        return excludedClassPatterns;
     }
 
     public static Predicate<String> createExcludeFilter(List<String> excludedClasses,
@@ -736,16 +765,17 @@ public class Settings {
         final Set<String> names = new LinkedHashSet<>(
                 excludedClasses != null ? excludedClasses : Collections.emptyList());
         names.add("java.lang.Record");
-        final List<Pattern> patterns = Utils.globsToRegexps(
-                excludedClassPatterns != null ? excludedClassPatterns : Collections.emptyList());
-        return className -> names.contains(className) || Utils.classNameMatches(className, patterns);
+        final ClassNameGlobMatcher patterns = ClassNameGlobMatcher.compile(excludedClassPatterns);
+        return className -> names.contains(className) || patterns.test(className);
     }
 
     public Predicate<String> getMapClassesAsClassesFilter() {
         if (mapClassesAsClassesFilter == null) {
-            final List<Pattern> patterns = Utils.globsToRegexps(mapClassesAsClassesPatterns);
+            final ClassNameGlobMatcher patterns = mapClassesAsClassesPatterns != null
+                    ? ClassNameGlobMatcher.compile(mapClassesAsClassesPatterns)
+                    : null;
             mapClassesAsClassesFilter = className -> mapClasses == ClassMapping.asClasses &&
-                    (patterns == null || Utils.classNameMatches(className, patterns));
+                    (patterns == null || patterns.test(className));
         }
         return mapClassesAsClassesFilter;
     }
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -29,16 +30,73 @@ public abstract class TsType implements Emittable {
     public static final TsType Never = new BasicType("never");
     public static final TsType Unknown = new BasicType("unknown");
 
+    // cached hash code, 0 means not computed yet or not cacheable
+    private int hashCode;
+
     @Override
     public boolean equals(Object rhs) {
-        return rhs != null && this.getClass() == rhs.getClass() && this.toString().equals(rhs.toString());
+        if (this == rhs) {
+            return true;
+        }
+        if (rhs == null || this.getClass() != rhs.getClass()) {
+            return false;
+        }
+        final TsType other = (TsType) rhs;
+        if (this.hashCode != 0 && other.hashCode != 0 && this.hashCode != other.hashCode) {
+            return false;
+        }
+        return equalsStructurally(other);
     }
 
     @Override
     public int hashCode() {
+        int hash = this.hashCode;
+        if (hash == 0) {
+            hash = computeHashCode();
+            if (hash == 0) {
+                hash = 1;
+            }
+            if (isHashCodeCacheable()) {
+                this.hashCode = hash;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Compares this type with other type of the same class.
+     * Default implementation compares formatted types, subclasses compare their components.
+     */
+    protected boolean equalsStructurally(TsType other) {
+        return this.toString().equals(other.toString());
+    }
+
+    protected int computeHashCode() {
         return this.toString().hashCode();
     }
 
+    /**
+     * Hash code can be cached when it cannot change any more.
+     * Hash code of type which references symbol changes when symbol name is resolved.
+     * Called after {@link #computeHashCode()} so hash codes of component types are already computed.
+     */
+    protected boolean isHashCodeCacheable() {
+        return false;
+    }
+
+    protected static boolean isHashCodeCached(TsType type) {
+        return type == null || type.hashCode != 0;
+    }
+
+    protected static boolean isHashCodeCached(List<? extends TsType> types) {
+        for (TsType type : types) {
+            if (!isHashCodeCached(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public TsType.OptionalType optional() {
         return new TsType.OptionalType(this);
     }
@@ -63,6 +121,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return name;
         }
+
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return Objects.equals(name, ((BasicType) other).name);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(name);
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return true;
+        }
     }
 
     public static class GenericBasicType extends TsType.BasicType {
@@ -82,6 +155,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return super.format(settings) + "<" + Emitter.formatList(settings, typeArguments) + ">";
         }
+
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return super.equalsStructurally(other) && typeArguments.equals(((GenericBasicType) other).typeArguments);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * super.computeHashCode() + typeArguments.hashCode();
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return isHashCodeCached(typeArguments);
+        }
     }
 
     public static class VerbatimType extends TsType {
@@ -96,6 +184,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return verbatimType;
         }
+
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return Objects.equals(verbatimType, ((VerbatimType) other).verbatimType);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(verbatimType);
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return true;
+        }
     }
 
     /**
@@ -114,6 +217,22 @@ public abstract class TsType implements Emittable {
             return symbol.getFullName();
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            final Symbol otherSymbol = ((ReferenceType) other).symbol;
+            return symbol == otherSymbol || Objects.equals(symbol.getFullName(), otherSymbol.getFullName());
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(symbol.getFullName());
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return symbol.isResolved();
+        }
+
     }
 
     public static class GenericReferenceType extends TsType.ReferenceType {
@@ -133,6 +252,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return super.format(settings) + "<" + Emitter.formatList(settings, typeArguments) + ">";
         }
+
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return super.equalsStructurally(other) && typeArguments.equals(((GenericReferenceType) other).typeArguments);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * super.computeHashCode() + typeArguments.hashCode();
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return super.isHashCodeCacheable() && isHashCodeCached(typeArguments);
+        }
     }
 
     public static class GenericVariableType extends TsType.BasicType {
@@ -166,6 +300,21 @@ public abstract class TsType implements Emittable {
                     : elementType.format(settings) + "[]";
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return Objects.equals(elementType, ((BasicArrayType) other).elementType);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(elementType);
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return isHashCodeCached(elementType);
+        }
+
     }
 
     public static class IndexedArrayType extends TsType {
@@ -183,6 +332,22 @@ public abstract class TsType implements Emittable {
             return "{ [index: " + indexType.format(settings) + "]: " + elementType.format(settings) + " }";
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            final IndexedArrayType that = (IndexedArrayType) other;
+            return Objects.equals(indexType, that.indexType) && Objects.equals(elementType, that.elementType);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * Objects.hashCode(indexType) + Objects.hashCode(elementType);
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return isHashCodeCached(indexType) && isHashCodeCached(elementType);
+        }
+
     }
 
     public static class MappedType extends TsType {
@@ -207,6 +372,25 @@ public abstract class TsType implements Emittable {
                     " }";
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            final MappedType that = (MappedType) other;
+            return Objects.equals(parameterType, that.parameterType)
+                    && questionToken == that.questionToken
+                    && Objects.equals(type, that.type);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            final int questionTokenHash = questionToken != null ? questionToken.ordinal() + 1 : 0;
+            return (31 * Objects.hashCode(parameterType) + questionTokenHash) * 31 + Objects.hashCode(type);
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return isHashCodeCached(parameterType) && isHashCodeCached(type);
+        }
+
         public enum QuestionToken {
             Question("?"),
             Plus("+?"),
@@ -266,6 +450,21 @@ public abstract class TsType implements Emittable {
                     : Emitter.formatList(settings, types, " | ");
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return types.equals(((UnionType) other).types);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return types.hashCode();
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return isHashCodeCached(types);
+        }
+
     }
 
     public static class IntersectionType extends TsType {
@@ -287,6 +486,21 @@ public abstract class TsType implements Emittable {
                     : Emitter.formatList(settings, types, " & ");
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return types.equals(((IntersectionType) other).types);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return types.hashCode();
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return isHashCodeCached(types);
+        }
+
     }
 
     public static class StringLiteralType extends TsType {
@@ -302,6 +516,21 @@ public abstract class TsType implements Emittable {
             return settings.quotes + literal + settings.quotes;
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return Objects.equals(literal, ((StringLiteralType) other).literal);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(literal);
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return true;
+        }
+
     }
 
     public static class NumberLiteralType extends TsType {
@@ -317,6 +546,21 @@ public abstract class TsType implements Emittable {
             return "" + literal;
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return java.lang.String.valueOf(literal).equals(java.lang.String.valueOf(((NumberLiteralType) other).literal));
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return java.lang.String.valueOf(literal).hashCode();
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return true;
+        }
+
     }
 
     // optionality should have been represented as attribute of properties and parameters
@@ -333,6 +577,21 @@ public abstract class TsType implements Emittable {
             return type.format(settings);
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return Objects.equals(type, ((OptionalType) other).type);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(type);
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return isHashCodeCached(type);
+        }
+
     }
 
     public static class NullableType extends TsType {
@@ -350,6 +609,21 @@ public abstract class TsType implements Emittable {
             return AliasName + "<" + type.format(settings) + ">";
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            return Objects.equals(type, ((NullableType) other).type);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(type);
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            return isHashCodeCached(type);
+        }
+
     }
 
     public static class ObjectType extends TsType {
@@ -377,6 +651,41 @@ public abstract class TsType implements Emittable {
             }
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            final List<TsProperty> otherProperties = ((ObjectType) other).properties;
+            if (properties.size() != otherProperties.size()) {
+                return false;
+            }
+            for (int i = 0; i < properties.size(); i++) {
+                final TsProperty property = properties.get(i);
+                final TsProperty otherProperty = otherProperties.get(i);
+                if (!Objects.equals(property.name, otherProperty.name) || !Objects.equals(property.tsType, otherProperty.tsType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        protected int computeHashCode() {
+            int hash = 1;
+            for (TsProperty property : properties) {
+                hash = 31 * (31 * hash + Objects.hashCode(property.name)) + Objects.hashCode(property.tsType);
+            }
+            return hash;
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            for (TsProperty property : properties) {
+                if (!isHashCodeCached(property.tsType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
     }
 
     public static class FunctionType extends TsType {
@@ -394,6 +703,44 @@ public abstract class TsType implements Emittable {
             return Emitter.formatParameterList(parameters) + " => " + type.format(settings);
         }
 
+        @Override
+        protected boolean equalsStructurally(TsType other) {
+            final FunctionType that = (FunctionType) other;
+            if (parameters.size() != that.parameters.size() || !Objects.equals(type, that.type)) {
+                return false;
+            }
+            for (int i = 0; i < parameters.size(); i++) {
+                final TsParameter parameter = parameters.get(i);
+                final TsParameter otherParameter = that.parameters.get(i);
+                if (!Objects.equals(parameter.name, otherParameter.name) || !Objects.equals(parameter.tsType, otherParameter.tsType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        protected int computeHashCode() {
+            int hash = Objects.hashCode(type);
+            for (TsParameter parameter : parameters) {
+                hash = 31 * (31 * hash + Objects.hashCode(parameter.name)) + Objects.hashCode(parameter.tsType);
+            }
+            return hash;
+        }
+
+        @Override
+        protected boolean isHashCodeCacheable() {
+            if (!isHashCodeCached(type)) {
+                return false;
+            }
+            for (TsParameter parameter : parameters) {
+                if (!isHashCodeCached(parameter.tsType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
     }
 
     public static TsType transformTsType(Context context, TsType tsType, Transformer transformer) {
@@ -470,6 +817,27 @@ public abstract class TsType implements Emittable {
 
     public interface Transformer {
         TsType transform(Context context, TsType tsType);
+
+        /**
+         * Combines transformers so they can be applied in single traversal of type tree.
+         * Transformers are applied in passed order on each visited type before its nested types are visited.
+         * Result is the same as when transformers are applied in separate traversals
+         * if they are independent - transformer doesn't create types which preceding transformers would transform
+         * and doesn't inspect nested types which preceding transformers would transform.
+         */
+        static Transformer compose(List<? extends Transformer> transformers) {
+            if (transformers.size() == 1) {
+                return transformers.get(0);
+            }
+            final List<Transformer> transformerList = new ArrayList<>(transformers);
+            return (context, tsType) -> {
+                TsType type = tsType;
+                for (Transformer transformer : transformerList) {
+                    type = transformer.transform(context, type);
+                }
+                return type;
+            };
+        }
     }
 
 }
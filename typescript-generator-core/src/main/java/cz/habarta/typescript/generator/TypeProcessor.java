@@ -4,7 +4,9 @@ package cz.habarta.typescript.generator;
 import cz.habarta.typescript.generator.compiler.Symbol;
 import cz.habarta.typescript.generator.compiler.SymbolTable;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -16,6 +18,26 @@ public interface TypeProcessor {
      */
     Result processType(Type javaType, Context context);
 
+    /**
+     * Processors can declare that result of {@link #processType(Type, Context)} depends only on passed type
+     * and type context (and not on any other state) so it can be reused for the same arguments.
+     * Such results are memoized by {@link MemoizingTypeProcessor} when processing types in temporary context.
+     * @return <code>true</code> if results for passed type context can be memoized, <code>false</code> by default
+     */
+    default boolean isCacheable(Object typeContext) {
+        return false;
+    }
+
+    /**
+     * Processors can declare raw classes they handle so {@link Chain} can skip them for other types.
+     * Returning <code>false</code> is a promise that {@link #processType(Type, Context)} returns <code>null</code>
+     * for every type with passed raw class (in any context). Types without raw class are always passed to the processor.
+     * @return <code>true</code> if this processor may process types with passed raw class, <code>true</code> by default
+     */
+    default boolean canProcess(Class<?> rawClass) {
+        return true;
+    }
+
     default Result processTypeInTemporaryContext(Type type, Object typeContext, Settings settings) {
         return processType(type, new Context(new SymbolTable(settings), this, typeContext));
     }
@@ -105,8 +127,25 @@ public interface TypeProcessor {
 
     }
 
+    /**
+     * Tries processors in order and returns the first non-null result.
+     * For each raw class only processors which {@link TypeProcessor#canProcess(Class) can process it} are tried,
+     * the list of such processors is computed once per class.
+     */
     class Chain implements TypeProcessor {
         private final List<TypeProcessor> processors;
+        private final ClassValue<List<TypeProcessor>> processorsByRawClass = new ClassValue<List<TypeProcessor>>() {
+            @Override
+            protected List<TypeProcessor> computeValue(Class<?> rawClass) {
+                final List<TypeProcessor> candidates = new ArrayList<>();
+                for (TypeProcessor processor : processors) {
+                    if (processor.canProcess(rawClass)) {
+                        candidates.add(processor);
+                    }
+                }
+                return candidates.isEmpty() ? Collections.emptyList() : candidates;
+            }
+        };
 
         public Chain(List<TypeProcessor> processors) {
             this.processors = processors;
@@ -118,7 +157,7 @@ public interface TypeProcessor {
 
         @Override
         public Result processType(Type javaType, Context context) {
-            for (TypeProcessor processor : processors) {
+            for (TypeProcessor processor : getCandidates(javaType)) {
                 final Result result = processor.processType(javaType, context);
                 if (result != null) {
                     return result;
@@ -127,5 +166,31 @@ public interface TypeProcessor {
 
             return null;
         }
+
+        private List<TypeProcessor> getCandidates(Type javaType) {
+            if (javaType instanceof Class<?> cls) {
+                return processorsByRawClass.get(cls);
+            }
+            if (javaType instanceof ParameterizedType parameterizedType
+                    && parameterizedType.getRawType() instanceof Class<?> rawClass) {
+                return processorsByRawClass.get(rawClass);
+            }
+            return processors;
+        }
+
+        @Override
+        public boolean canProcess(Class<?> rawClass) {
+            return !processorsByRawClass.get(rawClass).isEmpty();
+        }
+
+        @Override
+        public boolean isCacheable(Object typeContext) {
+            for (TypeProcessor processor : processors) {
+                if (!processor.isCacheable(typeContext)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
@@ -7,6 +7,7 @@ import cz.habarta.typescript.generator.parser.*;
 import cz.habarta.typescript.generator.util.Utils;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
 import java.util.*;
@@ -20,7 +21,7 @@ public class TypeScriptGenerator {
     private static Logger logger = new Logger();
 
     private final Settings settings;
-    private TypeProcessor commonTypeProcessor = null;
+    private MemoizingTypeProcessor commonTypeProcessor = null;
     private ModelParser modelParser = null;
     private ModelCompiler modelCompiler = null;
     private Emitter emitter = null;
@@ -55,29 +56,84 @@ public class TypeScriptGenerator {
     }
 
     public void generateTypeScript(Input input, Output output) {
+        if (settings.incrementalCacheDirectory != null) {
+            generateTypeScriptIncrementally(input, output);
+            return;
+        }
         final Model model = getModelParser().parseModel(input.getSourceTypes());
         final TsModel tsModel = getModelCompiler().javaToTypeScript(model);
+        TypeScriptGenerator.getLogger().verbose(commonTypeProcessor.getStatistics());
         generateTypeScript(tsModel, output);
         generateInfoJson(tsModel, output);
         generateNpmPackageJson(output);
     }
 
+    private void generateTypeScriptIncrementally(Input input, Output output) {
+        final IncrementalGenerationCache cache = new IncrementalGenerationCache(settings, input, output.getName());
+        final IncrementalGenerationCache.Entry entry = cache.load();
+        if (entry != null) {
+            TypeScriptGenerator.getLogger().info("Classes not changed since previous run, using output from incremental cache");
+            write(entry.output, output);
+            if (entry.infoJson != null) {
+                write(entry.infoJson, getInfoJsonOutput(output));
+            }
+        } else {
+            final Model model = getModelParser().parseModel(input.getSourceTypes());
+            final TsModel tsModel = getModelCompiler().javaToTypeScript(model);
+            TypeScriptGenerator.getLogger().verbose(commonTypeProcessor.getStatistics());
+            final StringWriter typeScript = new StringWriter();
+            generateTypeScript(tsModel, Output.to(typeScript));
+            String infoJson = null;
+            if (settings.generateInfoJson) {
+                final StringWriter infoJsonWriter = new StringWriter();
+                getInfoJsonEmitter().emit(tsModel, infoJsonWriter, null, false);
+                infoJson = infoJsonWriter.toString();
+            }
+            write(typeScript.toString(), output);
+            if (infoJson != null) {
+                write(infoJson, getInfoJsonOutput(output));
+            }
+            cache.store(model, typeScript.toString(), infoJson);
+        }
+        generateNpmPackageJson(output);
+    }
+
+    private static void write(String content, Output output) {
+        if (output.getName() != null) {
+            TypeScriptGenerator.getLogger().info("Writing to: " + output.getName());
+        }
+        try {
+            output.getWriter().write(content);
+            if (output.shouldCloseWriter()) {
+                output.getWriter().close();
+            } else {
+                output.getWriter().flush();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private void generateTypeScript(TsModel tsModel, Output output) {
         getEmitter().emit(tsModel, output.getWriter(), output.getName(), output.shouldCloseWriter());
     }
 
     private void generateInfoJson(TsModel tsModel, Output output) {
         if (settings.generateInfoJson) {
-            if (output.getName() == null) {
-                throw new RuntimeException(
-                        "Generating info JSON can only be used when output is specified using file name");
-            }
-            final File outputFile = new File(output.getName());
-            final Output out = Output.to(new File(outputFile.getParent(), "typescript-generator-info.json"));
+            final Output out = getInfoJsonOutput(output);
             getInfoJsonEmitter().emit(tsModel, out.getWriter(), out.getName(), out.shouldCloseWriter());
         }
     }
 
+    private Output getInfoJsonOutput(Output output) {
+        if (output.getName() == null) {
+            throw new RuntimeException(
+                    "Generating info JSON can only be used when output is specified using file name");
+        }
+        final File outputFile = new File(output.getName());
+        return Output.to(new File(outputFile.getParent(), "typescript-generator-info.json"), settings.writeOnlyChangedFiles);
+    }
+
     private void generateNpmPackageJson(Output output) {
         if (settings.generateNpmPackageJson) {
             if (output.getName() == null) {
@@ -85,7 +141,7 @@ public class TypeScriptGenerator {
                         "Generating NPM package.json can only be used when output is specified using file name");
             }
             final File outputFile = new File(output.getName());
-            final Output npmOutput = Output.to(new File(outputFile.getParent(), "package.json"));
+            final Output npmOutput = Output.to(new File(outputFile.getParent(), "package.json"), settings.writeOnlyChangedFiles);
             final NpmPackageJson npmPackageJson = new NpmPackageJson();
             npmPackageJson.name = settings.npmName;
             npmPackageJson.version = settings.npmVersion;
@@ -146,7 +202,7 @@ public class TypeScriptGenerator {
         return commonTypeProcessor;
     }
 
-    private TypeProcessor createTypeProcessor(List<TypeProcessor> specificTypeProcessors) {
+    private MemoizingTypeProcessor createTypeProcessor(List<TypeProcessor> specificTypeProcessors) {
         final List<TypeProcessor> processors = new ArrayList<>();
         processors.add(new ExcludingTypeProcessor(settings.getExcludeFilter()));
         if (settings.customTypeProcessor != null) {
@@ -156,7 +212,7 @@ public class TypeScriptGenerator {
         processors.addAll(specificTypeProcessors);
         processors.add(new DefaultTypeProcessor(settings.getLoadedDataLibraries()));
         final TypeProcessor typeProcessor = new TypeProcessor.Chain(processors);
-        return typeProcessor;
+        return new MemoizingTypeProcessor(typeProcessor);
     }
 
     public ModelParser getModelParser() {
@@ -93,11 +93,9 @@ public class ModelCompiler {
             }
         }
 
-        // maps
-        tsModel = transformMaps(symbolTable, tsModel);
-
-        // dates
-        tsModel = transformDates(symbolTable, tsModel);
+        // maps, dates and extension type transformers (in single traversal)
+        tsModel = transformMapsAndDates(symbolTable, tsModel,
+                getExtensionTypeTransformers(TransformationPhase.BeforeEnums, extensionTransformers));
 
         // enums
         tsModel = applyExtensionTransformers(symbolTable, model, tsModel, TransformationPhase.BeforeEnums,
@@ -111,19 +109,16 @@ public class ModelCompiler {
                     || settings.mapEnum == EnumMapping.asInlineUnion) {
                 tsModel = transformEnumsToUnions(tsModel);
             }
-            if (settings.mapEnum == EnumMapping.asInlineUnion) {
-                tsModel = inlineEnums(tsModel, symbolTable);
-            }
             if (settings.mapEnum == EnumMapping.asNumberBasedEnum) {
                 tsModel = transformEnumsToNumberBasedEnum(tsModel);
             }
         }
 
-        // after enum transformations transform Maps with rest of the enums (not unions) used in keys
-        tsModel = transformNonStringEnumKeyMaps(symbolTable, tsModel);
-
         // tagged unions
-        tsModel = createAndUseTaggedUnions(symbolTable, tsModel);
+        tsModel = createTaggedUnions(symbolTable, tsModel);
+
+        // inline enums, enum key maps and tagged unions usage (in single traversal)
+        tsModel = transformEnumsAndTaggedUnionsUsage(symbolTable, tsModel);
 
         // nullable types and optional properties
         tsModel = makeUndefinablePropertiesAndParametersOptional(symbolTable, tsModel);
@@ -134,6 +129,9 @@ public class ModelCompiler {
         tsModel = applyExtensionTransformers(symbolTable, model, tsModel, TransformationPhase.BeforeSymbolResolution,
                 extensionTransformers);
         symbolTable.resolveSymbolNames();
+        if (settings.internTsTypes) {
+            tsModel = internPropertyTypes(tsModel);
+        }
         tsModel = sortTypeDeclarations(symbolTable, tsModel);
         tsModel = applyExtensionTransformers(symbolTable, model, tsModel, TransformationPhase.AfterDeclarationSorting,
                 extensionTransformers);
@@ -162,15 +160,33 @@ public class ModelCompiler {
 
     private static TsModel applyExtensionTransformers(SymbolTable symbolTable, Model model, TsModel tsModel,
             TransformationPhase phase, List<Extension.TransformerDefinition> transformerDefinitions) {
+        // type transformers of 'BeforeEnums' phase are applied together with map and date transformations
+        if (phase != TransformationPhase.BeforeEnums) {
+            final List<TsType.Transformer> typeTransformers = getExtensionTypeTransformers(phase, transformerDefinitions);
+            if (!typeTransformers.isEmpty()) {
+                tsModel = transformBeanPropertyTypes(tsModel, TsType.Transformer.compose(typeTransformers));
+            }
+        }
         final TsModelTransformer.Context context = new TsModelTransformer.Context(symbolTable, model);
         for (Extension.TransformerDefinition definition : transformerDefinitions) {
-            if (definition.phase == phase) {
+            if (definition.phase == phase && definition.tsTransformer != null) {
                 tsModel = definition.tsTransformer.transformModel(context, tsModel);
             }
         }
         return tsModel;
     }
 
+    private static List<TsType.Transformer> getExtensionTypeTransformers(TransformationPhase phase,
+            List<Extension.TransformerDefinition> transformerDefinitions) {
+        final List<TsType.Transformer> typeTransformers = new ArrayList<>();
+        for (Extension.TransformerDefinition definition : transformerDefinitions) {
+            if (definition.phase == phase && definition.typeTransformer != null) {
+                typeTransformers.add(definition.typeTransformer);
+            }
+        }
+        return typeTransformers;
+    }
+
     public TsType javaToTypeScript(Type type) {
         final BeanModel beanModel = new BeanModel(Object.class, Object.class, null, null, null,
                 Collections.emptyList(),
@@ -434,10 +450,10 @@ public class ModelCompiler {
     }
 
     private TsModel removeInheritedProperties(SymbolTable symbolTable, TsModel tsModel) {
+        final TsPropertyInheritance inheritance = new TsPropertyInheritance(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
-            final Map<String, TsType> inheritedPropertyTypes = getInheritedProperties(symbolTable, tsModel,
-                    bean.getAllParents());
+            final Map<String, TsType> inheritedPropertyTypes = inheritance.getInheritedProperties(bean.getAllParents());
             final List<TsPropertyModel> properties = new ArrayList<>();
             for (TsPropertyModel property : bean.getProperties()) {
                 if (property.isOwnProperty()
@@ -451,6 +467,7 @@ public class ModelCompiler {
     }
 
     private TsModel addImplementedProperties(SymbolTable symbolTable, TsModel tsModel) {
+        final TsPropertyInheritance inheritance = new TsPropertyInheritance(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
             if (bean.isClass()) {
@@ -460,10 +477,9 @@ public class ModelCompiler {
                 for (TsPropertyModel property : bean.getProperties()) {
                     classPropertyNames.add(property.getName());
                 }
-                classPropertyNames.addAll(getInheritedProperties(symbolTable, tsModel, bean.getExtendsList()).keySet());
+                classPropertyNames.addAll(inheritance.getInheritedProperties(bean.getExtendsList()).keySet());
 
-                final List<TsPropertyModel> implementedProperties = getImplementedProperties(symbolTable, tsModel,
-                        bean.getImplementsList());
+                final List<TsPropertyModel> implementedProperties = inheritance.getImplementedProperties(bean.getImplementsList());
                 Collections.reverse(implementedProperties);
                 for (TsPropertyModel implementedProperty : implementedProperties) {
                     if (!classPropertyNames.contains(implementedProperty.getName())) {
@@ -481,6 +497,7 @@ public class ModelCompiler {
     }
 
     private TsModel addConstructors(SymbolTable symbolTable, TsModel tsModel) {
+        final TsPropertyInheritance inheritance = new TsPropertyInheritance(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
             final Symbol beanIdentifier = symbolTable.getSymbol(bean.getOrigin());
@@ -495,9 +512,8 @@ public class ModelCompiler {
                                 new TsSuperExpression(),
                                 new TsIdentifierReference("data"))));
             }
+            final Map<String, TsType> inheritedProperties = inheritance.getInheritedProperties(Utils.listFromNullable(bean.getParent()));
             for (TsPropertyModel property : bean.getProperties()) {
-                final Map<String, TsType> inheritedProperties = ModelCompiler.getInheritedProperties(symbolTable,
-                        tsModel, Utils.listFromNullable(bean.getParent()));
                 if (!inheritedProperties.containsKey(property.getName())) {
                     body.add(new TsExpressionStatement(new TsAssignmentExpression(
                             new TsMemberExpression(new TsThisExpression(), property.name),
@@ -518,32 +534,12 @@ public class ModelCompiler {
         return tsModel.withBeans(beans);
     }
 
+    /**
+     * Use {@link TsPropertyInheritance} when looking up inherited properties of multiple beans.
+     */
     public static Map<String, TsType> getInheritedProperties(SymbolTable symbolTable, TsModel tsModel,
             List<TsType> parents) {
-        final Map<String, TsType> properties = new LinkedHashMap<>();
-        for (TsType parentType : parents) {
-            final TsBeanModel parent = tsModel.getBean(getOriginClass(symbolTable, parentType));
-            if (parent != null) {
-                properties.putAll(getInheritedProperties(symbolTable, tsModel, parent.getAllParents()));
-                for (TsPropertyModel property : parent.getProperties()) {
-                    properties.put(property.getName(), property.getTsType());
-                }
-            }
-        }
-        return properties;
-    }
-
-    private static List<TsPropertyModel> getImplementedProperties(SymbolTable symbolTable, TsModel tsModel,
-            List<TsType> interfaces) {
-        final List<TsPropertyModel> properties = new ArrayList<>();
-        for (TsType aInterface : interfaces) {
-            final TsBeanModel bean = tsModel.getBean(getOriginClass(symbolTable, aInterface));
-            if (bean != null) {
-                properties.addAll(getImplementedProperties(symbolTable, tsModel, bean.getExtendsList()));
-                properties.addAll(bean.getProperties());
-            }
-        }
-        return properties;
+        return new TsPropertyInheritance(symbolTable, tsModel).getInheritedProperties(parents);
     }
 
     private Symbol createRestResponseType(SymbolTable symbolTable, TsModel tsModel) {
@@ -849,11 +845,21 @@ public class ModelCompiler {
         return new TsTaggedTemplateLiteral(new TsIdentifierReference("uriEncoding"), spans);
     }
 
-    private TsModel transformMaps(SymbolTable symbolTable, TsModel tsModel) {
-        if (settings.mapMap != MapMapping.asRecord) {
-            return tsModel;
+    private TsModel transformMapsAndDates(SymbolTable symbolTable, TsModel tsModel,
+            List<TsType.Transformer> extensionTypeTransformers) {
+        final LinkedHashSet<TsAliasModel> typeAliases = new LinkedHashSet<>(tsModel.getTypeAliases());
+        final List<TsType.Transformer> transformers = new ArrayList<>();
+        if (settings.mapMap == MapMapping.asRecord) {
+            transformers.add(createMapsTransformer());
         }
-        final TsModel model = transformBeanPropertyTypes(tsModel, new TsType.Transformer() {
+        transformers.add(createDatesTransformer(symbolTable, typeAliases));
+        transformers.addAll(extensionTypeTransformers);
+        final TsModel model = transformBeanPropertyTypes(tsModel, TsType.Transformer.compose(transformers));
+        return model.withTypeAliases(new ArrayList<>(typeAliases));
+    }
+
+    private TsType.Transformer createMapsTransformer() {
+        return new TsType.Transformer() {
             @Override
             public TsType transform(TsType.Context context, TsType type) {
                 if (type instanceof TsType.IndexedArrayType indexedArrayType) {
@@ -862,17 +868,15 @@ public class ModelCompiler {
                 }
                 return type;
             }
-        });
-        return model;
+        };
     }
 
-    private TsModel transformDates(SymbolTable symbolTable, TsModel tsModel) {
+    private TsType.Transformer createDatesTransformer(SymbolTable symbolTable, Set<TsAliasModel> typeAliases) {
         final TsAliasModel dateAsNumber = new TsAliasModel(null, symbolTable.getSyntheticSymbol("DateAsNumber"), null,
                 TsType.Number, null);
         final TsAliasModel dateAsString = new TsAliasModel(null, symbolTable.getSyntheticSymbol("DateAsString"), null,
                 TsType.String, null);
-        final LinkedHashSet<TsAliasModel> typeAliases = new LinkedHashSet<>(tsModel.getTypeAliases());
-        final TsModel model = transformBeanPropertyTypes(tsModel, new TsType.Transformer() {
+        return new TsType.Transformer() {
             @Override
             public TsType transform(TsType.Context context, TsType type) {
                 if (type == TsType.Date) {
@@ -888,8 +892,7 @@ public class ModelCompiler {
                 return type;
 
             }
-        });
-        return model.withTypeAliases(new ArrayList<>(typeAliases));
+        };
     }
 
     static List<String> splitIdentifierIntoWords(String identifier) {
@@ -947,9 +950,24 @@ public class ModelCompiler {
         return tsModel.withRemovedEnums(stringEnums).withTypeAliases(new ArrayList<>(typeAliases));
     }
 
-    private TsModel inlineEnums(final TsModel tsModel, final SymbolTable symbolTable) {
+    private TsModel transformEnumsAndTaggedUnionsUsage(SymbolTable symbolTable, TsModel tsModel) {
         final Set<TsAliasModel> inlinedAliases = new LinkedHashSet<>();
-        final TsModel newTsModel = transformBeanPropertyTypes(tsModel, new TsType.Transformer() {
+        final List<TsType.Transformer> transformers = new ArrayList<>();
+        if (!settings.areDefaultStringEnumsOverriddenByExtension() && settings.mapEnum == EnumMapping.asInlineUnion) {
+            transformers.add(createInlineEnumsTransformer(tsModel, symbolTable, inlinedAliases));
+        }
+        // after enum transformations transform Maps with rest of the enums (not unions) used in keys
+        transformers.add(createNonStringEnumKeyMapsTransformer(symbolTable, tsModel));
+        if (!settings.disableTaggedUnions) {
+            transformers.add(createTaggedUnionsUsageTransformer(symbolTable));
+        }
+        final TsModel newTsModel = transformBeanPropertyTypes(tsModel, TsType.Transformer.compose(transformers));
+        return newTsModel.withRemovedTypeAliases(new ArrayList<>(inlinedAliases));
+    }
+
+    private TsType.Transformer createInlineEnumsTransformer(final TsModel tsModel, final SymbolTable symbolTable,
+            final Set<TsAliasModel> inlinedAliases) {
+        return new TsType.Transformer() {
             @Override
             public TsType transform(TsType.Context context, TsType tsType) {
                 if (tsType instanceof TsType.EnumReferenceType) {
@@ -961,8 +979,7 @@ public class ModelCompiler {
                 }
                 return tsType;
             }
-        });
-        return newTsModel.withRemovedTypeAliases(new ArrayList<>(inlinedAliases));
+        };
     }
 
     private TsModel transformEnumsToNumberBasedEnum(TsModel tsModel) {
@@ -979,8 +996,8 @@ public class ModelCompiler {
         return tsModel.withRemovedEnums(stringEnums).withAddedEnums(new ArrayList<>(enums));
     }
 
-    private TsModel transformNonStringEnumKeyMaps(SymbolTable symbolTable, TsModel tsModel) {
-        return transformBeanPropertyTypes(tsModel, new TsType.Transformer() {
+    private TsType.Transformer createNonStringEnumKeyMapsTransformer(SymbolTable symbolTable, TsModel tsModel) {
+        return new TsType.Transformer() {
             @Override
             public TsType transform(TsType.Context context, TsType tsType) {
                 if (tsType instanceof TsType.MappedType mappedType) {
@@ -1000,7 +1017,7 @@ public class ModelCompiler {
                 }
                 return tsType;
             }
-        });
+        };
     }
 
     private static TsModel addEnumValuesToJavadoc(TsModel tsModel) {
@@ -1031,7 +1048,7 @@ public class ModelCompiler {
         }
     }
 
-    private TsModel createAndUseTaggedUnions(final SymbolTable symbolTable, TsModel tsModel) {
+    private TsModel createTaggedUnions(final SymbolTable symbolTable, TsModel tsModel) {
         if (settings.disableTaggedUnions) {
             return tsModel;
         }
@@ -1067,28 +1084,28 @@ public class ModelCompiler {
                 beans.add(bean);
             }
         }
-        final TsModel modelWithTaggedUnions = tsModel.withBeans(beans).withTypeAliases(new ArrayList<>(typeAliases));
-        // use tagged unions
-        final TsModel modelWithUsedTaggedUnions = transformBeanPropertyTypes(modelWithTaggedUnions,
-                new TsType.Transformer() {
-                    @Override
-                    public TsType transform(TsType.Context context, TsType tsType) {
-                        final Class<?> cls = getOriginClass(symbolTable, tsType);
-                        if (cls != null) {
-                            final Symbol unionSymbol = symbolTable.hasSymbol(cls, "Union");
-                            if (unionSymbol != null) {
-                                if (tsType instanceof TsType.GenericReferenceType genericReferenceType) {
-                                    return new TsType.GenericReferenceType(unionSymbol,
-                                            genericReferenceType.typeArguments);
-                                } else {
-                                    return new TsType.ReferenceType(unionSymbol);
-                                }
-                            }
+        return tsModel.withBeans(beans).withTypeAliases(new ArrayList<>(typeAliases));
+    }
+
+    private TsType.Transformer createTaggedUnionsUsageTransformer(final SymbolTable symbolTable) {
+        return new TsType.Transformer() {
+            @Override
+            public TsType transform(TsType.Context context, TsType tsType) {
+                final Class<?> cls = getOriginClass(symbolTable, tsType);
+                if (cls != null) {
+                    final Symbol unionSymbol = symbolTable.hasSymbol(cls, "Union");
+                    if (unionSymbol != null) {
+                        if (tsType instanceof TsType.GenericReferenceType genericReferenceType) {
+                            return new TsType.GenericReferenceType(unionSymbol,
+                                    genericReferenceType.typeArguments);
+                        } else {
+                            return new TsType.ReferenceType(unionSymbol);
                         }
-                        return tsType;
                     }
-                });
-        return modelWithUsedTaggedUnions;
+                }
+                return tsType;
+            }
+        };
     }
 
     // example: transforms property `text: string | undefined` to `text?: string | undefined`
@@ -1258,6 +1275,19 @@ public class ModelCompiler {
         orderedBeans.add(bean);
     }
 
+    private static TsModel internPropertyTypes(TsModel tsModel) {
+        final TsTypeInterner interner = new TsTypeInterner();
+        final List<TsBeanModel> beans = new ArrayList<>();
+        for (TsBeanModel bean : tsModel.getBeans()) {
+            final List<TsPropertyModel> properties = new ArrayList<>();
+            for (TsPropertyModel property : bean.getProperties()) {
+                properties.add(property.withTsType(interner.intern(property.getTsType())));
+            }
+            beans.add(bean.withProperties(properties));
+        }
+        return tsModel.withBeans(beans);
+    }
+
     private static TsModel transformBeanPropertyTypes(TsModel tsModel, TsType.Transformer transformer) {
         final List<TsBeanModel> newBeans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
@@ -1301,7 +1331,7 @@ public class ModelCompiler {
         return tsModel.withBeans(newBeans);
     }
 
-    private static Class<?> getOriginClass(SymbolTable symbolTable, TsType type) {
+    static Class<?> getOriginClass(SymbolTable symbolTable, TsType type) {
         if (type instanceof TsType.ReferenceType referenceType) {
             return symbolTable.getSymbolClass(referenceType.symbol);
         }
@@ -22,6 +22,8 @@ public class SymbolTable {
 
     private final Settings settings;
     private final LinkedHashMap<Pair<Class<?>, String>, Symbol> symbols = new LinkedHashMap<>();
+    // reverse index of `symbols`
+    private final IdentityHashMap<Symbol, Pair<Class<?>, String>> symbolKeys = new IdentityHashMap<>();
     private final LinkedHashMap<String, Symbol> syntheticSymbols = new LinkedHashMap<>();
     private CustomTypeNamingFunction customTypeNamingFunction;
 
@@ -36,10 +38,13 @@ public class SymbolTable {
     public Symbol getSymbol(Class<?> cls, String suffix) {
         final String suffixString = suffix != null ? suffix : "";
         final Pair<Class<?>, String> key = Pair.of(cls, suffixString);
-        if (!symbols.containsKey(key)) {
-            symbols.put(key, new Symbol("$" + cls.getName().replace('.', '$') + suffixString + "$"));
+        Symbol symbol = symbols.get(key);
+        if (symbol == null) {
+            symbol = new Symbol("$" + cls.getName().replace('.', '$') + suffixString + "$");
+            symbols.put(key, symbol);
+            symbolKeys.put(symbol, key);
         }
-        return symbols.get(key);
+        return symbol;
     }
 
     public Symbol hasSymbol(Class<?> cls, String suffix) {
@@ -47,12 +52,8 @@ public class SymbolTable {
     }
 
     public Class<?> getSymbolClass(Symbol symbol) {
-        for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
-            if (entry.getValue() == symbol) {
-                return entry.getKey().getValue1();
-            }
-        }
-        return null;
+        final Pair<Class<?>, String> key = symbolKeys.get(symbol);
+        return key != null ? key.getValue1() : null;
     }
 
     public Symbol getSyntheticSymbol(String name) {
@@ -68,10 +69,9 @@ public class SymbolTable {
 
     public Symbol addSuffixToSymbol(Symbol symbol, String suffix) {
         // try symbols
-        for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
-            if (entry.getValue() == symbol) {
-                return getSymbol(entry.getKey().getValue1(), entry.getKey().getValue2() + suffix);
-            }
+        final Pair<Class<?>, String> key = symbolKeys.get(symbol);
+        if (key != null) {
+            return getSymbol(key.getValue1(), key.getValue2() + suffix);
         }
         // syntheticSymbols
         return getSyntheticSymbol(symbol.getFullName() + suffix);
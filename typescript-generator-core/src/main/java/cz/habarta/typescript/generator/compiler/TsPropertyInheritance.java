@@ -0,0 +1,83 @@
+package cz.habarta.typescript.generator.compiler;
+
+import cz.habarta.typescript.generator.TsType;
+import cz.habarta.typescript.generator.emitter.TsBeanModel;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.emitter.TsPropertyModel;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Properties inherited from parent beans and implemented interfaces.
+ * Flattened properties of each ancestor bean are computed only once so beans sharing common ancestors don't walk them repeatedly.
+ * Instance is valid only for the TsModel it was created for, it should be created again when beans are transformed.
+ */
+public class TsPropertyInheritance {
+
+    private final SymbolTable symbolTable;
+    private final TsModel tsModel;
+    private final Map<TsBeanModel, Map<String, TsType>> flattenedProperties = new IdentityHashMap<>();
+    private final Map<TsBeanModel, List<TsPropertyModel>> flattenedInterfaceProperties = new IdentityHashMap<>();
+
+    public TsPropertyInheritance(SymbolTable symbolTable, TsModel tsModel) {
+        this.symbolTable = symbolTable;
+        this.tsModel = tsModel;
+    }
+
+    /**
+     * Returns types of properties declared in specified parents and their ancestors (properties of closer ancestors win).
+     */
+    public Map<String, TsType> getInheritedProperties(List<TsType> parents) {
+        final Map<String, TsType> properties = new LinkedHashMap<>();
+        for (TsType parentType : parents) {
+            final TsBeanModel parent = tsModel.getBean(ModelCompiler.getOriginClass(symbolTable, parentType));
+            if (parent != null) {
+                properties.putAll(getFlattenedProperties(parent));
+            }
+        }
+        return properties;
+    }
+
+    private Map<String, TsType> getFlattenedProperties(TsBeanModel bean) {
+        final Map<String, TsType> cached = flattenedProperties.get(bean);
+        if (cached != null) {
+            return cached;
+        }
+        final Map<String, TsType> properties = getInheritedProperties(bean.getAllParents());
+        for (TsPropertyModel property : bean.getProperties()) {
+            properties.put(property.getName(), property.getTsType());
+        }
+        flattenedProperties.put(bean, properties);
+        return properties;
+    }
+
+    /**
+     * Returns properties declared in specified interfaces and interfaces they extend (in declaration order, with duplicates).
+     */
+    public List<TsPropertyModel> getImplementedProperties(List<TsType> interfaces) {
+        final List<TsPropertyModel> properties = new ArrayList<>();
+        for (TsType aInterface : interfaces) {
+            final TsBeanModel bean = tsModel.getBean(ModelCompiler.getOriginClass(symbolTable, aInterface));
+            if (bean != null) {
+                properties.addAll(getFlattenedInterfaceProperties(bean));
+            }
+        }
+        return properties;
+    }
+
+    private List<TsPropertyModel> getFlattenedInterfaceProperties(TsBeanModel bean) {
+        final List<TsPropertyModel> cached = flattenedInterfaceProperties.get(bean);
+        if (cached != null) {
+            return cached;
+        }
+        final List<TsPropertyModel> properties = getImplementedProperties(bean.getExtendsList());
+        properties.addAll(bean.getProperties());
+        flattenedInterfaceProperties.put(bean, properties);
+        return properties;
+    }
+
+}
@@ -0,0 +1,28 @@
+package cz.habarta.typescript.generator.compiler;
+
+import cz.habarta.typescript.generator.TsType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash-consing of TypeScript types: equal types are replaced with one shared instance.
+ * Should be used after symbol names are resolved because equality of reference types depends on symbol names.
+ */
+public class TsTypeInterner {
+
+    private final Map<TsType, TsType> types = new HashMap<>();
+
+    public TsType intern(TsType type) {
+        if (type == null) {
+            return null;
+        }
+        final TsType existing = types.putIfAbsent(type, type);
+        return existing != null ? existing : type;
+    }
+
+    public int size() {
+        return types.size();
+    }
+
+}
@@ -6,7 +6,9 @@ import cz.habarta.typescript.generator.compiler.Symbol;
 import cz.habarta.typescript.generator.util.Utils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class TsModel {
@@ -16,6 +18,8 @@ public class TsModel {
     private final List<TsEnumModel> originalStringEnums;
     private final List<TsAliasModel> typeAliases;
     private final List<TsHelper> helpers;
+    private DeclarationIndex<TsBeanModel> beanIndex;
+    private DeclarationIndex<TsAliasModel> typeAliasIndex;
 
     public TsModel() {
         this(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
@@ -30,38 +34,42 @@ public class TsModel {
         this.helpers = helpers;
     }
 
+    private TsModel(List<TsBeanModel> beans, List<TsEnumModel> enums, List<TsEnumModel> originalStringEnums,
+            List<TsAliasModel> typeAliases, List<TsHelper> helpers,
+            DeclarationIndex<TsBeanModel> beanIndex, DeclarationIndex<TsAliasModel> typeAliasIndex) {
+        this(beans, enums, originalStringEnums, typeAliases, helpers);
+        // indexes are only used when their list is not replaced
+        this.beanIndex = beanIndex;
+        this.typeAliasIndex = typeAliasIndex;
+    }
+
     public List<TsBeanModel> getBeans() {
         return beans;
     }
 
     public TsBeanModel getBean(Class<?> origin) {
-        if (origin != null) {
-            for (TsBeanModel bean : beans) {
-                if (Objects.equals(bean.getOrigin(), origin)) {
-                    return bean;
-                }
-            }
-        }
-        return null;
+        return origin != null ? getBeanIndex().byOrigin.get(origin) : null;
     }
 
     public TsBeanModel getBean(Symbol name) {
-        if (name != null) {
-            for (TsBeanModel bean : beans) {
-                if (Objects.equals(bean.getName(), name)) {
-                    return bean;
-                }
-            }
+        return name != null ? getBeanIndex().byName.get(name) : null;
+    }
+
+    private DeclarationIndex<TsBeanModel> getBeanIndex() {
+        if (beanIndex == null || !beanIndex.isValidFor(beans)) {
+            beanIndex = new DeclarationIndex<>(beans);
         }
-        return null;
+        return beanIndex;
     }
 
     public TsModel withBeans(List<TsBeanModel> beans) {
-        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers,
+                beanIndex, typeAliasIndex);
     }
 
     public TsModel withoutBeans(List<TsBeanModel> beans) {
-        return new TsModel(Utils.removeAll(this.beans, beans), enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(Utils.removeAll(this.beans, beans), enums, originalStringEnums, typeAliases, helpers,
+                beanIndex, typeAliasIndex);
     }
 
     public List<TsEnumModel> getEnums() {
@@ -79,15 +87,18 @@ public class TsModel {
     }
 
     public TsModel withEnums(List<TsEnumModel> enums) {
-        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers,
+                beanIndex, typeAliasIndex);
     }
 
     public TsModel withAddedEnums(List<TsEnumModel> enums) {
-        return new TsModel(beans, Utils.concat(this.enums, enums), originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, Utils.concat(this.enums, enums), originalStringEnums, typeAliases, helpers,
+                beanIndex, typeAliasIndex);
     }
 
     public TsModel withRemovedEnums(List<TsEnumModel> enums) {
-        return new TsModel(beans, Utils.removeAll(this.enums, enums), originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, Utils.removeAll(this.enums, enums), originalStringEnums, typeAliases, helpers,
+                beanIndex, typeAliasIndex);
     }
 
     public List<TsEnumModel> getOriginalStringEnums() {
@@ -95,7 +106,8 @@ public class TsModel {
     }
 
     public TsModel withOriginalStringEnums(List<TsEnumModel> originalStringEnums) {
-        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers,
+                beanIndex, typeAliasIndex);
     }
 
     public List<TsAliasModel> getTypeAliases() {
@@ -103,30 +115,61 @@ public class TsModel {
     }
 
     public TsAliasModel getTypeAlias(Class<?> origin) {
-        if (origin != null) {
-            for (TsAliasModel alias : typeAliases) {
-                if (Objects.equals(alias.getOrigin(), origin)) {
-                    return alias;
-                }
-            }
+        return origin != null ? getTypeAliasIndex().byOrigin.get(origin) : null;
+    }
+
+    private DeclarationIndex<TsAliasModel> getTypeAliasIndex() {
+        if (typeAliasIndex == null || !typeAliasIndex.isValidFor(typeAliases)) {
+            typeAliasIndex = new DeclarationIndex<>(typeAliases);
         }
-        return null;
+        return typeAliasIndex;
     }
 
     public TsModel withTypeAliases(List<TsAliasModel> typeAliases) {
-        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers,
+                beanIndex, typeAliasIndex);
     }
 
     public TsModel withAddedTypeAliases(List<TsAliasModel> typeAliases) {
-        return new TsModel(beans, enums, originalStringEnums, Utils.concat(this.typeAliases, typeAliases), helpers);
+        return new TsModel(beans, enums, originalStringEnums, Utils.concat(this.typeAliases, typeAliases), helpers,
+                beanIndex, typeAliasIndex);
     }
 
     public TsModel withRemovedTypeAliases(List<TsAliasModel> typeAliases) {
-        return new TsModel(beans, enums, originalStringEnums, Utils.removeAll(this.typeAliases, typeAliases), helpers);
+        return new TsModel(beans, enums, originalStringEnums, Utils.removeAll(this.typeAliases, typeAliases), helpers,
+                beanIndex, typeAliasIndex);
     }
 
     public List<TsHelper> getHelpers() {
         return helpers;
     }
 
+    /**
+     * Lookup of declarations by origin class and by name (first declaration wins like in sequential search).
+     * Lists in the model are sometimes appended in place so the index is valid only for the same list with the same size.
+     */
+    private static class DeclarationIndex<T extends TsDeclarationModel> {
+        private final List<T> declarations;
+        private final int size;
+        private final Map<Class<?>, T> byOrigin = new HashMap<>();
+        private final Map<Symbol, T> byName = new HashMap<>();
+
+        public DeclarationIndex(List<T> declarations) {
+            this.declarations = declarations;
+            this.size = declarations.size();
+            for (T declaration : declarations) {
+                if (declaration.getOrigin() != null) {
+                    byOrigin.putIfAbsent(declaration.getOrigin(), declaration);
+                }
+                if (declaration.getName() != null) {
+                    byName.putIfAbsent(declaration.getName(), declaration);
+                }
+            }
+        }
+
+        public boolean isValidFor(List<T> declarations) {
+            return this.declarations == declarations && this.size == declarations.size();
+        }
+    }
+
 }
@@ -139,12 +139,7 @@ public class BeanPropertyPathExtension extends EmitterExtension {
             return null;
         }
 
-        for (TsBeanModel curBean : model.getBeans()) {
-            if (curBean.getName().equals(originalTypeBean.symbol)) {
-                return curBean;
-            }
-        }
-        return null;
+        return model.getBean(originalTypeBean.symbol);
     }
 
     private static String getBeanModelClassName(TsBeanModel bean) {
@@ -8,6 +8,7 @@ import cz.habarta.typescript.generator.compiler.ModelCompiler;
 import cz.habarta.typescript.generator.compiler.Symbol;
 import cz.habarta.typescript.generator.compiler.SymbolTable;
 import cz.habarta.typescript.generator.compiler.TsModelTransformer;
+import cz.habarta.typescript.generator.compiler.TsPropertyInheritance;
 import cz.habarta.typescript.generator.emitter.*;
 import cz.habarta.typescript.generator.util.Utils;
 
@@ -62,11 +63,12 @@ public class JsonDeserializationExtension extends Extension {
 
     private static TsModel createDeserializationMethods(SymbolTable symbolTable, TsModel tsModel) {
         tsModel.getHelpers().add(TsHelper.loadFromResource("/helpers/jsonDeserialization.ts"));
+        final TsPropertyInheritance inheritance = new TsPropertyInheritance(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
             if (bean.isDataClass()) {
                 final List<TsMethodModel> methods = new ArrayList<>(bean.getMethods());
-                final TsMethodModel deserializationMethod = createDeserializationMethod(symbolTable, tsModel, bean);
+                final TsMethodModel deserializationMethod = createDeserializationMethod(symbolTable, tsModel, inheritance, bean);
                 methods.add(0, deserializationMethod);
                 if (!bean.getTypeParameters().isEmpty()) {
                     final TsMethodModel genericFunctionConstructor = createDeserializationGenericFunctionConstructor(
@@ -87,7 +89,7 @@ public class JsonDeserializationExtension extends Extension {
     }
 
     private static TsMethodModel createDeserializationMethod(SymbolTable symbolTable, TsModel tsModel,
-            TsBeanModel bean) {
+            TsPropertyInheritance inheritance, TsBeanModel bean) {
         final Symbol beanIdentifier = symbolTable.getSymbol(bean.getOrigin());
         List<TsType.GenericVariableType> typeParameters = getTypeParameters(bean.getOrigin());
 
@@ -117,9 +119,8 @@ public class JsonDeserializationExtension extends Extension {
                             new TsIdentifierReference("data"),
                             new TsIdentifierReference("instance"))));
         }
+        final Map<String, TsType> inheritedProperties = inheritance.getInheritedProperties(Utils.listFromNullable(bean.getParent()));
         for (TsPropertyModel property : bean.getProperties()) {
-            final Map<String, TsType> inheritedProperties = ModelCompiler.getInheritedProperties(symbolTable, tsModel,
-                    Utils.listFromNullable(bean.getParent()));
             if (!inheritedProperties.containsKey(property.getName())) {
                 body.add(new TsExpressionStatement(new TsAssignmentExpression(
                         new TsMemberExpression(new TsIdentifierReference("instance"), property.name),
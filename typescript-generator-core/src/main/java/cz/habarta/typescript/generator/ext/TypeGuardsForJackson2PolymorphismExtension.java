@@ -56,12 +56,8 @@ public class TypeGuardsForJackson2PolymorphismExtension extends EmitterExtension
     }
 
     static String findTypeName(Class<?> beanClass, TsModel model) {
-        for (TsBeanModel bean : model.getBeans()) {
-            if (bean.getOrigin().equals(beanClass)) {
-                return bean.getName().getSimpleName();
-            }
-        }
-        return null;
+        final TsBeanModel bean = model.getBean(beanClass);
+        return bean != null ? bean.getName().getSimpleName() : null;
     }
 
     // Example:
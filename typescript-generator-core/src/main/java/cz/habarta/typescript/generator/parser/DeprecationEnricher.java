@@ -1,4 +1,3 @@
-
 package cz.habarta.typescript.generator.parser;
 
 import cz.habarta.typescript.generator.compiler.EnumMemberModel;
@@ -10,26 +9,20 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
-public class DeprecationEnricher {
+public class DeprecationEnricher implements ModelEnricher {
     public Model enrichModel(Model model) {
-        final List<BeanModel> beans = mapList(model.getBeans(), this::enrichBean);
-        final List<EnumModel> enums = mapList(model.getEnums(), this::enrichEnum);
-        final List<RestApplicationModel> restApplications = mapList(model.getRestApplications(),
-                this::enrichRestApplication);
-        return new Model(beans, enums, restApplications);
+        return new ModelEnricherPipeline(List.of(this)).enrichModel(model);
     }
 
-    private BeanModel enrichBean(BeanModel bean) {
-        final List<PropertyModel> properties = mapList(bean.getProperties(), this::enrichProperty);
-        return bean
-                .withProperties(properties)
-                .withComments(addDeprecation(bean.getComments(), bean.getOrigin()));
+    @Override
+    public BeanModel enrichBean(BeanModel bean) {
+        final List<String> comments = addDeprecation(bean.getComments(), bean.getOrigin());
+        return comments != bean.getComments() ? bean.withComments(comments) : bean;
     }
 
-    private PropertyModel enrichProperty(PropertyModel property) {
+    @Override
+    public PropertyModel enrichProperty(BeanModel bean, PropertyModel property) {
         if (property.getOriginalMember() instanceof Method method) {
             return enrichMethodProperty(property, method);
         } else if (property.getOriginalMember() instanceof Field field) {
@@ -40,41 +33,31 @@ public class DeprecationEnricher {
     }
 
     private PropertyModel enrichFieldProperty(PropertyModel property, Field field) {
-        return property
-                .withComments(addDeprecation(property.getComments(), field));
+        final List<String> comments = addDeprecation(property.getComments(), field);
+        return comments != property.getComments() ? property.withComments(comments) : property;
     }
 
     private PropertyModel enrichMethodProperty(PropertyModel property, Method method) {
-        return property
-                .withComments(addDeprecation(property.getComments(), method));
-    }
-
-    private EnumModel enrichEnum(EnumModel enumModel) {
-        final List<EnumMemberModel> members = mapList(enumModel.getMembers(),
-                this::enrichEnumMember);
-        return enumModel
-                .withMembers(members)
-                .withComments(addDeprecation(enumModel.getComments(), enumModel.getOrigin()));
-    }
-
-    private EnumMemberModel enrichEnumMember(EnumMemberModel enumMember) {
-        return enumMember
-                .withComments(addDeprecation(enumMember.getComments(), enumMember.getOriginalField()));
+        final List<String> comments = addDeprecation(property.getComments(), method);
+        return comments != property.getComments() ? property.withComments(comments) : property;
     }
 
-    private RestApplicationModel enrichRestApplication(RestApplicationModel restApplicationModel) {
-        final List<RestMethodModel> enrichedRestMethods = mapList(restApplicationModel.getMethods(),
-                this::enrichRestMethod);
-        return restApplicationModel.withMethods(enrichedRestMethods);
+    @Override
+    public EnumModel enrichEnum(EnumModel enumModel) {
+        final List<String> comments = addDeprecation(enumModel.getComments(), enumModel.getOrigin());
+        return comments != enumModel.getComments() ? enumModel.withComments(comments) : enumModel;
     }
 
-    private RestMethodModel enrichRestMethod(RestMethodModel method) {
-        return method
-                .withComments(addDeprecation(method.getComments(), method.getOriginalMethod()));
+    @Override
+    public EnumMemberModel enrichEnumMember(EnumModel enumModel, EnumMemberModel enumMember) {
+        final List<String> comments = addDeprecation(enumMember.getComments(), enumMember.getOriginalField());
+        return comments != enumMember.getComments() ? enumMember.withComments(comments) : enumMember;
     }
 
-    private static <R, T> List<R> mapList(List<T> list, Function<T, R> mapper) {
-        return list.stream().map(mapper).collect(Collectors.toList());
+    @Override
+    public RestMethodModel enrichRestMethod(RestMethodModel method) {
+        final List<String> comments = addDeprecation(method.getComments(), method.getOriginalMethod());
+        return comments != method.getComments() ? method.withComments(comments) : method;
     }
 
     private static List<String> addDeprecation(List<String> comments, AnnotatedElement annotatedElement) {
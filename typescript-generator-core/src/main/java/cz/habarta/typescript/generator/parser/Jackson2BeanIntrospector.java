@@ -0,0 +1,268 @@
+package cz.habarta.typescript.generator.parser;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIncludeProperties;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerFactory;
+import com.fasterxml.jackson.databind.deser.CreatorProperty;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.impl.BeanPropertyMap;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedParameter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.util.IgnorePropertiesUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds serializable and deserializable properties of beans for {@link Jackson2Parser}.
+ * By default properties are taken from bean serializers and deserializers constructed by Jackson,
+ * serializer provider and deserialization context used for that are created only once for each thread.
+ * Alternatively properties can be read directly from <code>BeanDescription</code> without constructing serializers
+ * (see {@link cz.habarta.typescript.generator.Jackson2Configuration#introspectPropertiesWithoutSerializers}).
+ * Properties are cached for each type.
+ */
+class Jackson2BeanIntrospector {
+
+    private final ObjectMapper objectMapper;
+    private final boolean introspectPropertiesWithoutSerializers;
+    private final ThreadLocal<DefaultSerializerProvider> serializerProvider;
+    private final ThreadLocal<DeserializationContext> deserializationContext;
+    private final Map<JavaType, Optional<List<BeanProperty>>> serializableProperties = new ConcurrentHashMap<>();
+    private final Map<JavaType, Optional<List<BeanProperty>>> deserializableProperties = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> ignoredTypes = new ConcurrentHashMap<>();
+
+    public Jackson2BeanIntrospector(ObjectMapper objectMapper, boolean introspectPropertiesWithoutSerializers) {
+        this.objectMapper = objectMapper;
+        this.introspectPropertiesWithoutSerializers = introspectPropertiesWithoutSerializers;
+        this.serializerProvider = ThreadLocal.withInitial(() -> new DefaultSerializerProvider.Impl()
+                .createInstance(objectMapper.getSerializationConfig(), objectMapper.getSerializerFactory()));
+        this.deserializationContext = ThreadLocal.withInitial(() -> new DefaultDeserializationContext.Impl(
+                objectMapper.getDeserializationContext().getFactory())
+                .createInstance(objectMapper.getDeserializationConfig(), null, null));
+    }
+
+    public SerializerProvider getSerializerProvider() {
+        return serializerProvider.get();
+    }
+
+    /**
+     * Returns <code>null</code> if specified type is not serialized as bean.
+     */
+    public List<BeanProperty> getSerializableProperties(JavaType javaType) {
+        return serializableProperties.computeIfAbsent(javaType, type -> Optional.ofNullable(
+                introspectPropertiesWithoutSerializers
+                        ? findSerializableProperties(type)
+                        : getSerializerProperties(type)))
+                .orElse(null);
+    }
+
+    /**
+     * Returns <code>null</code> if specified type is not deserialized as bean.
+     */
+    public List<BeanProperty> getDeserializableProperties(JavaType javaType) {
+        return deserializableProperties.computeIfAbsent(javaType, type -> Optional.ofNullable(
+                introspectPropertiesWithoutSerializers
+                        ? findDeserializableProperties(type)
+                        : getDeserializerProperties(type)))
+                .orElse(null);
+    }
+
+    private List<BeanProperty> getSerializerProperties(JavaType javaType) {
+        try {
+            final JsonSerializer<?> jsonSerializer = BeanSerializerFactory.instance.createSerializer(
+                    serializerProvider.get(), javaType);
+            if (jsonSerializer instanceof BeanSerializer beanSerializer) {
+                return Arrays.asList(new BeanSerializerHelper(beanSerializer).getProps());
+            } else {
+                return null;
+            }
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private List<BeanProperty> getDeserializerProperties(JavaType javaType) {
+        try {
+            final DeserializationContext context = deserializationContext.get();
+            final BeanDescription beanDescription = context.getConfig().introspect(javaType);
+            final JsonDeserializer<?> jsonDeserializer = BeanDeserializerFactory.instance
+                    .createBeanDeserializer(context, javaType, beanDescription);
+            if (jsonDeserializer instanceof BeanDeserializer beanDeserializer) {
+                return Arrays.asList(new BeanDeserializerHelper(beanDeserializer).getBeanProperties()
+                        .getPropertiesInInsertionOrder());
+            } else {
+                return null;
+            }
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private List<BeanProperty> findSerializableProperties(JavaType javaType) {
+        try {
+            final SerializationConfig config = objectMapper.getSerializationConfig();
+            final BeanDescription beanDescription = config.introspect(javaType);
+            final AnnotationIntrospector annotationIntrospector = config.getAnnotationIntrospector();
+            if (annotationIntrospector.findSerializer(beanDescription.getClassInfo()) != null
+                    || beanDescription.findJsonValueAccessor() != null) {
+                return null;
+            }
+            final IgnoredProperties ignoredProperties = new IgnoredProperties(config, beanDescription, true);
+            final boolean requireSetters = config.isEnabled(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS);
+            final List<BeanProperty> properties = new ArrayList<>();
+            for (BeanPropertyDefinition property : beanDescription.findProperties()) {
+                final AnnotatedMember accessor = property.getAccessor();
+                if (accessor == null || property.isTypeId() || isBackReference(property)
+                        || ignoredProperties.isIgnored(property) || isIgnoredType(config, property.getRawPrimaryType())
+                        || requireSetters && !property.couldDeserialize() && !property.isExplicitlyIncluded()
+                        || isEnumConstant(javaType, accessor)) {
+                    continue;
+                }
+                properties.add(new BeanProperty.Std(property.getFullName(), property.getPrimaryType(),
+                        property.getWrapperName(), accessor, property.getMetadata()));
+            }
+            return properties;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private List<BeanProperty> findDeserializableProperties(JavaType javaType) {
+        try {
+            // abstract types and enums don't have bean deserializers
+            if (javaType.isAbstract() || javaType.isEnumType()) {
+                return null;
+            }
+            final DeserializationConfig config = objectMapper.getDeserializationConfig();
+            final BeanDescription beanDescription = config.introspect(javaType);
+            if (config.getAnnotationIntrospector().findDeserializer(beanDescription.getClassInfo()) != null) {
+                return null;
+            }
+            final IgnoredProperties ignoredProperties = new IgnoredProperties(config, beanDescription, false);
+            final boolean useGettersAsSetters = config.isEnabled(MapperFeature.USE_GETTERS_AS_SETTERS);
+            final List<BeanProperty> properties = new ArrayList<>();
+            for (BeanPropertyDefinition property : beanDescription.findProperties()) {
+                if (ignoredProperties.isIgnored(property) || isIgnoredType(config, property.getRawPrimaryType())) {
+                    continue;
+                }
+                if (property.hasConstructorParameter()) {
+                    final AnnotatedParameter parameter = property.getConstructorParameter();
+                    properties.add(CreatorProperty.construct(property.getFullName(), property.getPrimaryType(),
+                            property.getWrapperName(), null, beanDescription.getClassAnnotations(), parameter,
+                            parameter.getIndex(), null, property.getMetadata()));
+                    continue;
+                }
+                final Class<?> rawType = property.getRawPrimaryType();
+                final AnnotatedMember mutator = property.hasSetter() ? property.getSetter()
+                        : property.hasField() ? property.getField()
+                        : property.hasGetter() && useGettersAsSetters
+                                && (Collection.class.isAssignableFrom(rawType) || Map.class.isAssignableFrom(rawType))
+                                ? property.getGetter()
+                                : null;
+                if (mutator != null) {
+                    properties.add(new BeanProperty.Std(property.getFullName(), property.getPrimaryType(),
+                            property.getWrapperName(), mutator, property.getMetadata()));
+                }
+            }
+            return properties;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // enum serialized as object doesn't contain its constants
+    private static boolean isEnumConstant(JavaType javaType, AnnotatedMember accessor) {
+        return javaType.isEnumType()
+                && accessor instanceof AnnotatedField
+                && accessor.getRawType() == javaType.getRawClass();
+    }
+
+    private static boolean isBackReference(BeanPropertyDefinition property) {
+        final AnnotationIntrospector.ReferenceProperty referenceType = property.findReferenceType();
+        return referenceType != null && referenceType.isBackReference();
+    }
+
+    // @JsonIgnoreType
+    private boolean isIgnoredType(MapperConfig<?> config, Class<?> type) {
+        return ignoredTypes.computeIfAbsent(type, cls -> {
+            final Boolean isIgnoredType = config.getConfigOverride(cls).getIsIgnoredType();
+            if (isIgnoredType != null) {
+                return isIgnoredType;
+            }
+            return Boolean.TRUE.equals(config.getAnnotationIntrospector()
+                    .isIgnorableType(config.introspectClassAnnotations(cls).getClassInfo()));
+        });
+    }
+
+    // @JsonIgnoreProperties and @JsonIncludeProperties
+    private static class IgnoredProperties {
+        private final Set<String> ignored;
+        private final Set<String> included;
+
+        public IgnoredProperties(MapperConfig<?> config, BeanDescription beanDescription, boolean serialization) {
+            final JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(
+                    beanDescription.getBeanClass(), beanDescription.getClassInfo());
+            this.ignored = ignorals == null ? null
+                    : serialization ? ignorals.findIgnoredForSerialization()
+                    : ignorals.findIgnoredForDeserialization();
+            final JsonIncludeProperties.Value inclusions = config.getDefaultPropertyInclusions(
+                    beanDescription.getBeanClass(), beanDescription.getClassInfo());
+            this.included = inclusions != null ? inclusions.getIncluded() : null;
+        }
+
+        public boolean isIgnored(BeanPropertyDefinition property) {
+            return IgnorePropertiesUtil.shouldIgnore(property.getName(), ignored, included);
+        }
+    }
+
+    private static class BeanSerializerHelper extends BeanSerializer {
+        private static final long serialVersionUID = 1;
+
+        public BeanSerializerHelper(BeanSerializer src) {
+            super(src);
+        }
+
+        public BeanPropertyWriter[] getProps() {
+            return _props;
+        }
+    }
+
+    private static class BeanDeserializerHelper extends BeanDeserializer {
+        private static final long serialVersionUID = 1;
+
+        public BeanDeserializerHelper(BeanDeserializer src) {
+            super(src);
+        }
+
+        public BeanPropertyMap getBeanProperties() {
+            return _beanProperties;
+        }
+    }
+
+}
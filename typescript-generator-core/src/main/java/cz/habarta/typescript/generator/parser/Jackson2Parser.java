@@ -8,21 +8,13 @@ import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.cfg.MutableConfigOverride;
-import com.fasterxml.jackson.databind.deser.BeanDeserializer;
-import com.fasterxml.jackson.databind.deser.BeanDeserializerFactory;
 import com.fasterxml.jackson.databind.deser.CreatorProperty;
-import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
-import com.fasterxml.jackson.databind.deser.impl.BeanPropertyMap;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
 import com.fasterxml.jackson.databind.introspect.AnnotationIntrospectorPair;
 import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.fasterxml.jackson.databind.jsontype.SubtypeResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
-import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
-import com.fasterxml.jackson.databind.ser.BeanSerializer;
-import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
-import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationIntrospector;
 import com.fasterxml.jackson.module.jaxb.JaxbAnnotationIntrospector;
@@ -40,6 +32,7 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -79,6 +72,8 @@ public class Jackson2Parser extends ModelParser {
     }
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Jackson2BeanIntrospector beanIntrospector;
+    private final Map<Class<?>, List<NamedType>> subtypesFromResolver = new ConcurrentHashMap<>();
 
     public Jackson2Parser(Settings settings, TypeProcessor typeProcessor) {
         this(settings, typeProcessor, Collections.emptyList(), false);
@@ -124,6 +119,8 @@ public class Jackson2Parser extends ModelParser {
                 objectMapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
             }
         }
+        beanIntrospector = new Jackson2BeanIntrospector(objectMapper,
+                config != null && config.introspectPropertiesWithoutSerializers);
     }
 
     private void setVisibility(PropertyAccessor accessor, JsonAutoDetect.Visibility visibility) {
@@ -144,6 +141,12 @@ public class Jackson2Parser extends ModelParser {
         return new TypeProcessor.Chain(
                 new ExcludingTypeProcessor(List.of(JsonNode.class.getName())),
                 new TypeProcessor() {
+                    @Override
+                    public boolean isCacheable(Object typeContext) {
+                        // result depends on annotations of the property
+                        return !(typeContext instanceof Jackson2TypeContext);
+                    }
+
                     @Override
                     public TypeProcessor.Result processType(Type javaType, TypeProcessor.Context context) {
                         if (context.getTypeContext() instanceof Jackson2TypeContext jackson2TypeContext) {
@@ -432,7 +435,7 @@ public class Jackson2Parser extends ModelParser {
         try {
             final SerializationConfig config = objectMapper.getSerializationConfig();
             final JavaType javaType = config.constructType(cls);
-            final TypeSerializer typeSerializer = objectMapper.getSerializerProviderInstance()
+            final TypeSerializer typeSerializer = beanIntrospector.getSerializerProvider()
                     .findTypeSerializer(javaType);
             final TypeIdResolver typeIdResolver = typeSerializer.getTypeIdResolver();
             if (typeIdResolver.getMechanism() == JsonTypeInfo.Id.NAME) {
@@ -476,6 +479,10 @@ public class Jackson2Parser extends ModelParser {
      * @return subtypes of specified class including the class itself
      */
     private List<NamedType> getSubtypesFromResolver(Class<?> cls) {
+        return subtypesFromResolver.computeIfAbsent(cls, this::findSubtypesFromResolver);
+    }
+
+    private List<NamedType> findSubtypesFromResolver(Class<?> cls) {
         final SerializationConfig config = objectMapper.getSerializationConfig();
         final SubtypeResolver subtypeResolver = config.getSubtypeResolver();
         final BeanDescription beanDescription = config.introspectClassAnnotations(cls);
@@ -531,48 +538,14 @@ public class Jackson2Parser extends ModelParser {
             return null;
         }
         final JavaType javaType = objectMapper.constructType(beanClass);
-        final BeanSerializerHelper beanSerializerHelper = createBeanSerializerHelper(javaType);
-        final BeanDeserializerHelper beanDeserializerHelper = createBeanDeserializerHelper(javaType);
-        if (beanSerializerHelper != null || beanDeserializerHelper != null) {
-            return new BeanHelpers(beanClass, view, beanSerializerHelper, beanDeserializerHelper);
+        final List<BeanProperty> serializableProperties = beanIntrospector.getSerializableProperties(javaType);
+        final List<BeanProperty> deserializableProperties = beanIntrospector.getDeserializableProperties(javaType);
+        if (serializableProperties != null || deserializableProperties != null) {
+            return new BeanHelpers(beanClass, view, serializableProperties, deserializableProperties);
         }
         return null;
     }
 
-    private BeanSerializerHelper createBeanSerializerHelper(JavaType javaType) {
-        try {
-            final DefaultSerializerProvider.Impl serializerProvider = new DefaultSerializerProvider.Impl()
-                    .createInstance(objectMapper.getSerializationConfig(), objectMapper.getSerializerFactory());
-            final JsonSerializer<?> jsonSerializer = BeanSerializerFactory.instance.createSerializer(serializerProvider,
-                    javaType);
-            if (jsonSerializer instanceof BeanSerializer beanDeserializer) {
-                return new BeanSerializerHelper(beanDeserializer);
-            } else {
-                return null;
-            }
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private BeanDeserializerHelper createBeanDeserializerHelper(JavaType javaType) {
-        try {
-            final DeserializationContext deserializationContext = new DefaultDeserializationContext.Impl(
-                    objectMapper.getDeserializationContext().getFactory())
-                    .createInstance(objectMapper.getDeserializationConfig(), null, null);
-            final BeanDescription beanDescription = deserializationContext.getConfig().introspect(javaType);
-            final JsonDeserializer<?> jsonDeserializer = BeanDeserializerFactory.instance
-                    .createBeanDeserializer(deserializationContext, javaType, beanDescription);
-            if (jsonDeserializer instanceof BeanDeserializer beanDeserializer) {
-                return new BeanDeserializerHelper(beanDeserializer);
-            } else {
-                return null;
-            }
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     // for tests
     protected List<BeanProperty> getBeanProperties(Class<?> beanClass) {
         return getBeanHelpers(beanClass, null).getProperties();
@@ -581,15 +554,15 @@ public class Jackson2Parser extends ModelParser {
     private static class BeanHelpers {
         public final Class<?> beanClass;
         public final Class<?> view;
-        public final BeanSerializerHelper serializer;
-        public final BeanDeserializerHelper deserializer;
+        public final List<BeanProperty> serializableProperties;
+        public final List<BeanProperty> deserializableProperties;
 
-        public BeanHelpers(Class<?> beanClass, Class<?> view, BeanSerializerHelper serializer,
-                BeanDeserializerHelper deserializer) {
+        public BeanHelpers(Class<?> beanClass, Class<?> view, List<BeanProperty> serializableProperties,
+                List<BeanProperty> deserializableProperties) {
             this.beanClass = beanClass;
             this.view = view;
-            this.serializer = serializer;
-            this.deserializer = deserializer;
+            this.serializableProperties = serializableProperties;
+            this.deserializableProperties = deserializableProperties;
         }
 
         public List<BeanProperty> getProperties() {
@@ -610,32 +583,41 @@ public class Jackson2Parser extends ModelParser {
         private List<Pair<BeanProperty, BeanProperty>> getPropertiesPairs() {
             final List<BeanProperty> serializableProperties = getSerializableProperties();
             final List<BeanProperty> deserializableProperties = getDeserializableProperties();
+            final Map<String, BeanProperty> serializablePropertiesByName = getPropertiesByName(serializableProperties);
+            final Map<String, BeanProperty> deserializablePropertiesByName = getPropertiesByName(deserializableProperties);
             final List<Pair<BeanProperty, BeanProperty>> properties = Stream
                     .concat(
                             serializableProperties.stream()
                                     .filter(this::inView)
                                     .map(property -> Pair.of(property,
-                                            getBeanProperty(deserializableProperties, property.getName()))),
+                                            deserializablePropertiesByName.get(property.getName()))),
                             deserializableProperties.stream()
                                     .filter(this::inView)
-                                    .filter(property -> getBeanProperty(serializableProperties,
-                                            property.getName()) == null)
+                                    .filter(property -> !serializablePropertiesByName.containsKey(property.getName()))
                                     .map(property -> Pair.of((BeanProperty) null, property)))
                     .collect(Collectors.toCollection(ArrayList::new));
 
-            // sort
+            // sort (sort keys are precomputed so each comparison is O(1) even for beans with hundreds of properties)
+            final Map<BeanProperty, Integer> serializationOrder = new IdentityHashMap<>();
+            for (int i = 0; i < serializableProperties.size(); i++) {
+                serializationOrder.putIfAbsent(serializableProperties.get(i), i);
+            }
             final Comparator<Pair<BeanProperty, BeanProperty>> bySerializationOrder = (pair1,
                     pair2) -> pair1.getValue1() != null && pair2.getValue1() != null
                             ? Integer.compare(
-                                    serializableProperties.indexOf(pair1.getValue1()),
-                                    serializableProperties.indexOf(pair2.getValue1()))
+                                    serializationOrder.get(pair1.getValue1()),
+                                    serializationOrder.get(pair2.getValue1()))
                             : 0;
             final Comparator<Pair<BeanProperty, BeanProperty>> byIndex = Comparator.comparing(
                     BeanHelpers::getIndex,
                     Comparator.nullsLast(Comparator.naturalOrder()));
+            final Map<Member, Integer> fieldIndexes = new HashMap<>();
             final List<Field> fields = Utils.getAllFields(beanClass);
+            for (int i = 0; i < fields.size(); i++) {
+                fieldIndexes.putIfAbsent(fields.get(i), i);
+            }
             final Comparator<Pair<BeanProperty, BeanProperty>> byFieldIndex = Comparator.comparing(
-                    pair -> getFieldIndex(fields, pair),
+                    pair -> getFieldIndex(fieldIndexes, pair),
                     Comparator.nullsLast(Comparator.naturalOrder()));
             properties.sort(bySerializationOrder
                     .thenComparing(byIndex)
@@ -655,11 +637,12 @@ public class Jackson2Parser extends ModelParser {
                     .anyMatch(v -> v.isAssignableFrom(view));
         }
 
-        private static BeanProperty getBeanProperty(List<BeanProperty> properties, String name) {
-            return properties.stream()
-                    .filter(dp -> Objects.equals(dp.getName(), name))
-                    .findFirst()
-                    .orElse(null);
+        private static Map<String, BeanProperty> getPropertiesByName(List<BeanProperty> properties) {
+            final Map<String, BeanProperty> propertiesByName = new HashMap<>();
+            for (BeanProperty property : properties) {
+                propertiesByName.putIfAbsent(property.getName(), property);
+            }
+            return propertiesByName;
         }
 
         private static Integer getIndex(Pair<BeanProperty, BeanProperty> pair) {
@@ -674,56 +657,31 @@ public class Jackson2Parser extends ModelParser {
             return property.getMetadata().getIndex();
         }
 
-        private static Integer getFieldIndex(List<Field> fields, Pair<BeanProperty, BeanProperty> pair) {
-            final Integer fieldIndex1 = getFieldIndex(fields, pair.getValue1());
-            return fieldIndex1 != null ? fieldIndex1 : getFieldIndex(fields, pair.getValue2());
+        private static Integer getFieldIndex(Map<Member, Integer> fieldIndexes, Pair<BeanProperty, BeanProperty> pair) {
+            final Integer fieldIndex1 = getFieldIndex(fieldIndexes, pair.getValue1());
+            return fieldIndex1 != null ? fieldIndex1 : getFieldIndex(fieldIndexes, pair.getValue2());
         }
 
-        private static Integer getFieldIndex(List<Field> fields, BeanProperty property) {
+        private static Integer getFieldIndex(Map<Member, Integer> fieldIndexes, BeanProperty property) {
             if (property == null) {
                 return null;
             }
-            final int index = fields.indexOf(property.getMember().getMember());
-            return index != -1 ? index : null;
+            return fieldIndexes.get(property.getMember().getMember());
         }
 
         private List<BeanProperty> getSerializableProperties() {
-            return serializer != null
-                    ? Arrays.asList(serializer.getProps())
+            return serializableProperties != null
+                    ? serializableProperties
                     : Collections.emptyList();
         }
 
         private List<BeanProperty> getDeserializableProperties() {
-            return deserializer != null
-                    ? Arrays.asList(deserializer.getBeanProperties().getPropertiesInInsertionOrder())
+            return deserializableProperties != null
+                    ? deserializableProperties
                     : Collections.emptyList();
         }
     }
 
-    private static class BeanSerializerHelper extends BeanSerializer {
-        private static final long serialVersionUID = 1;
-
-        public BeanSerializerHelper(BeanSerializer src) {
-            super(src);
-        }
-
-        public BeanPropertyWriter[] getProps() {
-            return _props;
-        }
-    }
-
-    private static class BeanDeserializerHelper extends BeanDeserializer {
-        private static final long serialVersionUID = 1;
-
-        public BeanDeserializerHelper(BeanDeserializer src) {
-            super(src);
-        }
-
-        public BeanPropertyMap getBeanProperties() {
-            return _beanProperties;
-        }
-    }
-
     private DeclarationModel parseEnumOrObjectEnum(SourceType<Class<?>> sourceClass, List<String> classComments) {
         final JsonFormat jsonFormat = sourceClass.type.getAnnotation(JsonFormat.class);
         if (jsonFormat != null && jsonFormat.shape() == JsonFormat.Shape.OBJECT) {
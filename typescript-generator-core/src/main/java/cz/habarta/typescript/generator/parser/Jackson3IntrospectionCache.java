@@ -0,0 +1,94 @@
+package cz.habarta.typescript.generator.parser;
+
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DatabindContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.introspect.AnnotatedClass;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches results of Jackson class introspection for {@link Jackson3Parser}.
+ * Jackson caches <code>AnnotatedClass</code> and <code>BeanDescription</code> only within one serialization or deserialization context
+ * so without this cache the same class would be introspected again for its bean properties, type name, subtypes, object identity and property types.
+ * Results are keyed by <code>JavaType</code> only, views are applied by the parser after introspection.
+ * Most beans are introspected only once so bean descriptions (which hold all collected properties)
+ * are retained only for types introspected repeatedly, class annotations are retained for all types.
+ */
+class Jackson3IntrospectionCache {
+
+    private final ObjectMapper objectMapper;
+    private final Map<JavaType, AnnotatedClass> annotatedClasses = new ConcurrentHashMap<>();
+    private final Descriptions serializationDescriptions = new Descriptions();
+    private final Descriptions deserializationDescriptions = new Descriptions();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public Jackson3IntrospectionCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns class annotations resolved using serialization config.
+     */
+    public AnnotatedClass getAnnotatedClass(JavaType javaType) {
+        final AnnotatedClass cached = annotatedClasses.get(javaType);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return annotatedClasses.computeIfAbsent(javaType, type -> objectMapper.serializationConfig()
+                .classIntrospectorInstance()
+                .introspectClassAnnotations(type));
+    }
+
+    /**
+     * @param context serialization context which is used for introspection if description is not cached
+     */
+    public BeanDescription getSerializationDescription(DatabindContext context, JavaType javaType) {
+        final BeanDescription beanDescription = serializationDescriptions.get(context, javaType);
+        // class annotations were already resolved with serialization config as part of bean introspection
+        annotatedClasses.putIfAbsent(javaType, beanDescription.getClassInfo());
+        return beanDescription;
+    }
+
+    /**
+     * @param context deserialization context which is used for introspection if description is not cached
+     */
+    public BeanDescription getDeserializationDescription(DatabindContext context, JavaType javaType) {
+        return deserializationDescriptions.get(context, javaType);
+    }
+
+    public String getStatistics() {
+        return String.format("%d hits, %d misses (%d annotated classes, %d serialization and %d deserialization bean descriptions)",
+                hits.sum(), misses.sum(), annotatedClasses.size(),
+                serializationDescriptions.descriptions.size(), deserializationDescriptions.descriptions.size());
+    }
+
+    private class Descriptions {
+        private final Map<JavaType, BeanDescription> descriptions = new ConcurrentHashMap<>();
+        private final Set<JavaType> introspectedTypes = ConcurrentHashMap.newKeySet();
+
+        public BeanDescription get(DatabindContext context, JavaType javaType) {
+            final BeanDescription cached = descriptions.get(javaType);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            final BeanDescription beanDescription = context.introspectBeanDescription(javaType);
+            if (!introspectedTypes.add(javaType)) {
+                // properties are collected lazily and not thread-safe, collect them before description is shared with other threads
+                beanDescription.findProperties();
+                descriptions.putIfAbsent(javaType, beanDescription);
+            }
+            return beanDescription;
+        }
+    }
+
+}
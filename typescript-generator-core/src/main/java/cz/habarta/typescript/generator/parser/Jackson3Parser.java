@@ -35,6 +35,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -67,7 +69,6 @@ import tools.jackson.databind.deser.CreatorProperty;
 import tools.jackson.databind.deser.bean.BeanDeserializerBase;
 import tools.jackson.databind.introspect.AnnotatedClass;
 import tools.jackson.databind.introspect.AnnotationIntrospectorPair;
-import tools.jackson.databind.introspect.ClassIntrospector;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.jsontype.NamedType;
 import tools.jackson.databind.jsontype.SubtypeResolver;
@@ -75,7 +76,6 @@ import tools.jackson.databind.jsontype.TypeIdResolver;
 import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.BeanSerializerFactory;
 import tools.jackson.databind.ser.bean.BeanSerializerBase;
-import tools.jackson.databind.type.TypeFactory;
 import tools.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationIntrospector;
 import tools.jackson.module.jaxb.JaxbAnnotationIntrospector;
 
@@ -115,6 +115,7 @@ public class Jackson3Parser extends ModelParser {
     }
 
     private final ObjectMapper objectMapper;
+    private final Jackson3IntrospectionCache introspectionCache;
 
     public Jackson3Parser(Settings settings, TypeProcessor typeProcessor) {
         this(settings, typeProcessor, Collections.emptyList(), false);
@@ -162,6 +163,7 @@ public class Jackson3Parser extends ModelParser {
         }
         builder.disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
         objectMapper = builder.build();
+        introspectionCache = new Jackson3IntrospectionCache(objectMapper);
     }
 
     private void setVisibility(PropertyAccessor accessor, JsonAutoDetect.Visibility visibility,
@@ -183,6 +185,12 @@ public class Jackson3Parser extends ModelParser {
         return new TypeProcessor.Chain(
                 new ExcludingTypeProcessor(Arrays.asList(JsonNode.class.getName())),
                 new TypeProcessor() {
+                    @Override
+                    public boolean isCacheable(Object typeContext) {
+                        // result depends on annotations of the property
+                        return !(typeContext instanceof Jackson3TypeContext);
+                    }
+
                     @Override
                     public TypeProcessor.Result processType(Type javaType, TypeProcessor.Context context) {
                         if (context.getTypeContext() instanceof Jackson3TypeContext) {
@@ -227,14 +235,9 @@ public class Jackson3Parser extends ModelParser {
                             if (rawClass != null && Map.Entry.class.isAssignableFrom(rawClass)) {
                                 final ObjectMapper objectMapper = jackson3TypeContext.parser.objectMapper;
                                 final SerializationConfig serializationConfig = objectMapper.serializationConfig();
-                                final ClassIntrospector classIntrospector = serializationConfig
-                                        .classIntrospectorInstance();
-                                final JavaType javaJavaType = TypeFactory.createDefaultInstance()
-                                        .constructType(rawClass);
-                                final AnnotatedClass annotatedClass = classIntrospector
-                                        .introspectClassAnnotations(javaJavaType);
-                                final BeanDescription beanDescription = classIntrospector
-                                        .introspectForSerialization(javaJavaType, annotatedClass);
+                                final JavaType javaJavaType = serializationConfig.constructType(rawClass);
+                                final BeanDescription beanDescription = jackson3TypeContext.parser.introspectionCache
+                                        .getSerializationDescription(objectMapper._serializationContext(), javaJavaType);
                                 final JsonFormat.Value formatOverride = serializationConfig
                                         .getDefaultPropertyFormat(Map.Entry.class);
                                 final JsonFormat.Value formatFromAnnotation = beanDescription.supplier()
@@ -265,6 +268,13 @@ public class Jackson3Parser extends ModelParser {
         }
     }
 
+    @Override
+    public Model parseModel(List<SourceType<Type>> types) {
+        final Model model = super.parseModel(types);
+        TypeScriptGenerator.getLogger().verbose("Jackson3 introspection cache: " + introspectionCache.getStatistics());
+        return model;
+    }
+
     @Override
     protected DeclarationModel parseClass(SourceType<Class<?>> sourceClass) {
         final List<String> classComments = getComments(sourceClass.type.getAnnotation(JsonClassDescription.class));
@@ -482,7 +492,8 @@ public class Jackson3Parser extends ModelParser {
             final SerializationConfig config = objectMapper.serializationConfig();
             final JavaType javaType = config.constructType(cls);
             final SerializationContext serializationContext = objectMapper._serializationContext();
-            final TypeSerializer typeSerializer = serializationContext.findTypeSerializer(javaType);
+            final TypeSerializer typeSerializer = serializationContext.findTypeSerializer(javaType,
+                    introspectionCache.getAnnotatedClass(javaType));
             final TypeIdResolver typeIdResolver = typeSerializer.getTypeIdResolver();
             if (typeIdResolver.getMechanism() == JsonTypeInfo.Id.NAME) {
                 final List<NamedType> subtypes = getSubtypesFromResolver(cls);
@@ -527,9 +538,8 @@ public class Jackson3Parser extends ModelParser {
     private List<NamedType> getSubtypesFromResolver(Class<?> cls) {
         final SerializationConfig config = objectMapper.serializationConfig();
         final SubtypeResolver subtypeResolver = config.getSubtypeResolver();
-        final JavaType javaJavaType = TypeFactory.createDefaultInstance().constructType(cls);
-        final ClassIntrospector classIntrospector = config.classIntrospectorInstance();
-        final AnnotatedClass annotatedClass = classIntrospector.introspectClassAnnotations(javaJavaType);
+        final JavaType javaJavaType = config.constructType(cls);
+        final AnnotatedClass annotatedClass = introspectionCache.getAnnotatedClass(javaJavaType);
         final Collection<NamedType> deserializationSubtypes = subtypeResolver.collectAndResolveSubtypesByTypeId(config,
                 annotatedClass);
         final Collection<NamedType> serializationSubtypes = subtypeResolver.collectAndResolveSubtypesByClass(config,
@@ -593,9 +603,13 @@ public class Jackson3Parser extends ModelParser {
     private BeanSerializerHelper createBeanSerializerHelper(JavaType javaType) {
         try {
             final SerializationContext serializationContext = objectMapper._serializationContext();
-            final BeanDescription beanDescription = serializationContext.introspectBeanDescription(javaType);
-            final ValueSerializer<?> jsonSerializer = BeanSerializerFactory.instance
-                    .createSerializer(serializationContext, javaType, beanDescription.supplier(), null);
+            final BeanDescription beanDescription = introspectionCache.getSerializationDescription(serializationContext, javaType);
+            final ValueSerializer<?> jsonSerializer;
+            // factory removes ignored properties from (possibly cached) description
+            synchronized (beanDescription) {
+                jsonSerializer = BeanSerializerFactory.instance
+                        .createSerializer(serializationContext, javaType, beanDescription.supplier(), null);
+            }
             if (jsonSerializer != null && jsonSerializer instanceof BeanSerializerBase) {
                 return new BeanSerializerHelper((BeanSerializerBase) jsonSerializer);
             } else {
@@ -609,9 +623,13 @@ public class Jackson3Parser extends ModelParser {
     private BeanDeserializerHelper createBeanDeserializerHelper(JavaType javaType) {
         try {
             final DeserializationContext deserializationContext = objectMapper._deserializationContext();
-            final BeanDescription beanDescription = deserializationContext.introspectBeanDescription(javaType);
-            final ValueDeserializer<?> jsonDeserializer = BeanDeserializerFactory.instance
-                    .createBeanDeserializer(deserializationContext, javaType, beanDescription.supplier());
+            final BeanDescription beanDescription = introspectionCache.getDeserializationDescription(deserializationContext, javaType);
+            final ValueDeserializer<?> jsonDeserializer;
+            // factory removes ignored properties from (possibly cached) description
+            synchronized (beanDescription) {
+                jsonDeserializer = BeanDeserializerFactory.instance
+                        .createBeanDeserializer(deserializationContext, javaType, beanDescription.supplier());
+            }
             if (jsonDeserializer != null && jsonDeserializer instanceof BeanDeserializerBase) {
                 return new BeanDeserializerHelper((BeanDeserializerBase) jsonDeserializer);
             } else {
@@ -659,32 +677,41 @@ public class Jackson3Parser extends ModelParser {
         private List<Pair<BeanProperty, BeanProperty>> getPropertiesPairs() {
             final List<BeanProperty> serializableProperties = getSerializableProperties();
             final List<BeanProperty> deserializableProperties = getDeserializableProperties();
+            final Map<String, BeanProperty> serializablePropertiesByName = getPropertiesByName(serializableProperties);
+            final Map<String, BeanProperty> deserializablePropertiesByName = getPropertiesByName(deserializableProperties);
             final List<Pair<BeanProperty, BeanProperty>> properties = Stream
                     .concat(
                             serializableProperties.stream()
                                     .filter(this::inView)
                                     .map(property -> Pair.of(property,
-                                            getBeanProperty(deserializableProperties, property.getName()))),
+                                            deserializablePropertiesByName.get(property.getName()))),
                             deserializableProperties.stream()
                                     .filter(this::inView)
-                                    .filter(property -> getBeanProperty(serializableProperties,
-                                            property.getName()) == null)
+                                    .filter(property -> !serializablePropertiesByName.containsKey(property.getName()))
                                     .map(property -> Pair.of((BeanProperty) null, property)))
                     .collect(Collectors.toCollection(ArrayList::new));
 
-            // sort
+            // sort (sort keys are precomputed so each comparison is O(1) even for beans with hundreds of properties)
+            final Map<BeanProperty, Integer> serializationOrder = new IdentityHashMap<>();
+            for (int i = 0; i < serializableProperties.size(); i++) {
+                serializationOrder.putIfAbsent(serializableProperties.get(i), i);
+            }
             final Comparator<Pair<BeanProperty, BeanProperty>> bySerializationOrder = (pair1,
                     pair2) -> pair1.getValue1() != null && pair2.getValue1() != null
                             ? Integer.compare(
-                                    serializableProperties.indexOf(pair1.getValue1()),
-                                    serializableProperties.indexOf(pair2.getValue1()))
+                                    serializationOrder.get(pair1.getValue1()),
+                                    serializationOrder.get(pair2.getValue1()))
                             : 0;
             final Comparator<Pair<BeanProperty, BeanProperty>> byIndex = Comparator.comparing(
                     pair -> getIndex(pair),
                     Comparator.nullsLast(Comparator.naturalOrder()));
+            final Map<Member, Integer> fieldIndexes = new HashMap<>();
             final List<Field> fields = Utils.getAllFields(beanClass);
+            for (int i = 0; i < fields.size(); i++) {
+                fieldIndexes.putIfAbsent(fields.get(i), i);
+            }
             final Comparator<Pair<BeanProperty, BeanProperty>> byFieldIndex = Comparator.comparing(
-                    pair -> getFieldIndex(fields, pair),
+                    pair -> getFieldIndex(fieldIndexes, pair),
                     Comparator.nullsLast(Comparator.naturalOrder()));
             properties.sort(bySerializationOrder
                     .thenComparing(byIndex)
@@ -704,11 +731,12 @@ public class Jackson3Parser extends ModelParser {
                     .anyMatch(v -> v.isAssignableFrom(view));
         }
 
-        private static BeanProperty getBeanProperty(List<BeanProperty> properties, String name) {
-            return properties.stream()
-                    .filter(dp -> Objects.equals(dp.getName(), name))
-                    .findFirst()
-                    .orElse(null);
+        private static Map<String, BeanProperty> getPropertiesByName(List<BeanProperty> properties) {
+            final Map<String, BeanProperty> propertiesByName = new HashMap<>();
+            for (BeanProperty property : properties) {
+                propertiesByName.putIfAbsent(property.getName(), property);
+            }
+            return propertiesByName;
         }
 
         private static Integer getIndex(Pair<BeanProperty, BeanProperty> pair) {
@@ -723,17 +751,16 @@ public class Jackson3Parser extends ModelParser {
             return property.getMetadata().getIndex();
         }
 
-        private static Integer getFieldIndex(List<Field> fields, Pair<BeanProperty, BeanProperty> pair) {
-            final Integer fieldIndex1 = getFieldIndex(fields, pair.getValue1());
-            return fieldIndex1 != null ? fieldIndex1 : getFieldIndex(fields, pair.getValue2());
+        private static Integer getFieldIndex(Map<Member, Integer> fieldIndexes, Pair<BeanProperty, BeanProperty> pair) {
+            final Integer fieldIndex1 = getFieldIndex(fieldIndexes, pair.getValue1());
+            return fieldIndex1 != null ? fieldIndex1 : getFieldIndex(fieldIndexes, pair.getValue2());
         }
 
-        private static Integer getFieldIndex(List<Field> fields, BeanProperty property) {
+        private static Integer getFieldIndex(Map<Member, Integer> fieldIndexes, BeanProperty property) {
             if (property == null) {
                 return null;
             }
-            final int index = fields.indexOf(property.getMember().getMember());
-            return index != -1 ? index : null;
+            return fieldIndexes.get(property.getMember().getMember());
         }
 
         private List<BeanProperty> getSerializableProperties() {
@@ -8,233 +8,322 @@ import cz.habarta.typescript.generator.util.Utils;
 import cz.habarta.typescript.generator.xmldoclet.*;
 import cz.habarta.typescript.generator.xmldoclet.Class;
 import cz.habarta.typescript.generator.xmldoclet.Enum;
-import cz.habarta.typescript.generator.xmldoclet.Package;
-import jakarta.xml.bind.JAXB;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
-public class Javadoc {
+public class Javadoc implements ModelEnricher {
     private final String newline;
-    private final List<Root> dRoots;
+    // indexes by qualified name (with '.' as nested class separator), first declaration wins
+    private final Map<String, Class> dClasses = new HashMap<>();
+    private final Map<String, Interface> dInterfaces = new HashMap<>();
+    private final Map<String, Enum> dEnums = new HashMap<>();
+    // member indexes of classes and interfaces, created on first use
+    private final Map<Object, Members> dMembers = new IdentityHashMap<>();
+    private final List<File> javadocXmlFiles;
+    // qualified names of types already searched for in Javadoc XML files
+    private final Set<String> requestedNames = new HashSet<>();
+    private static final Supplier<XMLInputFactory> xmlInputFactory = Utils.memoize(Javadoc::createXmlInputFactory);
+    private static final Supplier<JAXBContext> jaxbContext = Utils.memoize(Javadoc::createJaxbContext);
 
     public Javadoc(Settings settings) {
         Objects.requireNonNull(settings, "settings");
         this.newline = settings.newline;
-        this.dRoots = loadJavadocXmlFiles(settings.javadocXmlFiles);
+        this.javadocXmlFiles = settings.javadocXmlFiles != null ? settings.javadocXmlFiles : List.of();
     }
 
-    private static List<Root> loadJavadocXmlFiles(List<File> javadocXmlFiles) {
-        final List<Root> dRoots = new ArrayList<>();
-        if (javadocXmlFiles != null) {
-            for (File file : javadocXmlFiles) {
-                TypeScriptGenerator.getLogger().info("Loading Javadoc XML file: " + file);
-                final Root dRoot = JAXB.unmarshal(file, Root.class);
-                dRoots.add(dRoot);
+    /**
+     * Loads declarations of specified types which were not requested before.
+     * Files are scanned sequentially using StAX and only elements of requested types are unmarshalled,
+     * other elements are skipped without creating objects.
+     */
+    private void load(Set<String> qualifiedNames) {
+        qualifiedNames.removeAll(requestedNames);
+        if (qualifiedNames.isEmpty() || javadocXmlFiles.isEmpty()) {
+            return;
+        }
+        requestedNames.addAll(qualifiedNames);
+        for (File file : javadocXmlFiles) {
+            TypeScriptGenerator.getLogger().info("Loading Javadoc XML file: " + file);
+            try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+                final XMLStreamReader reader = xmlInputFactory.get().createXMLStreamReader(inputStream);
+                try {
+                    load(reader, qualifiedNames);
+                } finally {
+                    reader.close();
+                }
+            } catch (IOException | XMLStreamException | JAXBException e) {
+                throw new RuntimeException("Cannot load Javadoc XML file: " + file, e);
+            }
+        }
+    }
+
+    private void load(XMLStreamReader reader, Set<String> qualifiedNames) throws XMLStreamException, JAXBException {
+        final Unmarshaller unmarshaller = jaxbContext.get().createUnmarshaller();
+        // root > package > class | interface | enum
+        int depth = 0;
+        int event = reader.getEventType();
+        while (true) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (depth == 3) {
+                    final String qualified = reader.getAttributeValue(null, "qualified");
+                    final boolean requested = qualified != null && qualifiedNames.contains(qualified);
+                    final String element = reader.getLocalName();
+                    if (requested && element.equals("class") && !dClasses.containsKey(qualified)) {
+                        dClasses.put(qualified, unmarshaller.unmarshal(reader, Class.class).getValue());
+                    } else if (requested && element.equals("interface") && !dInterfaces.containsKey(qualified)) {
+                        dInterfaces.put(qualified, unmarshaller.unmarshal(reader, Interface.class).getValue());
+                    } else if (requested && element.equals("enum") && !dEnums.containsKey(qualified)) {
+                        dEnums.put(qualified, unmarshaller.unmarshal(reader, Enum.class).getValue());
+                    } else {
+                        skipElement(reader);
+                        depth--;
+                        event = reader.next();
+                        continue;
+                    }
+                    // unmarshaller leaves reader positioned after the end of unmarshalled element
+                    depth--;
+                    event = reader.getEventType();
+                    continue;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+            if (!reader.hasNext()) {
+                break;
+            }
+            event = reader.next();
+        }
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static JAXBContext createJaxbContext() {
+        try {
+            return JAXBContext.newInstance(Root.class);
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Fields, methods and enum constants of one documented type indexed by name, first declaration wins (for overloaded methods).
+     */
+    private static class Members {
+        private final Map<String, Field> fields = new HashMap<>();
+        private final Map<String, Method> methods = new HashMap<>();
+        private final Map<String, EnumConstant> constants = new HashMap<>();
+
+        public Members(List<Field> dFields, List<Method> dMethods, List<EnumConstant> dConstants) {
+            for (Field dField : dFields) {
+                fields.putIfAbsent(dField.getName(), dField);
+            }
+            for (Method dMethod : dMethods) {
+                methods.putIfAbsent(dMethod.getName(), dMethod);
+            }
+            for (EnumConstant dConstant : dConstants) {
+                constants.putIfAbsent(dConstant.getName(), dConstant);
             }
         }
-        return dRoots;
+    }
+
+    private Members getMembers(Class dClass) {
+        return dMembers.computeIfAbsent(dClass, key -> new Members(dClass.getField(), dClass.getMethod(), List.of()));
+    }
+
+    private Members getMembers(Interface dInterface) {
+        return dMembers.computeIfAbsent(dInterface, key -> new Members(dInterface.getField(), dInterface.getMethod(), List.of()));
+    }
+
+    private Members getMembers(Enum dEnum) {
+        return dMembers.computeIfAbsent(dEnum, key -> new Members(List.of(), List.of(), dEnum.getConstant()));
+    }
+
+    private Members getMembers(BeanModel bean) {
+        if (bean.getOrigin().isInterface()) {
+            final Interface dInterface = findJavadocInterface(bean.getOrigin());
+            return dInterface != null ? getMembers(dInterface) : null;
+        } else {
+            final Class dClass = findJavadocClass(bean.getOrigin());
+            return dClass != null ? getMembers(dClass) : null;
+        }
     }
 
     // enrichers
 
     public Model enrichModel(Model model) {
-        final List<BeanModel> dBeans = new ArrayList<>();
+        return new ModelEnricherPipeline(List.of(this)).enrichModel(model);
+    }
+
+    @Override
+    public void prepare(Model model) {
+        load(getRequestedNames(model));
+    }
+
+    private static Set<String> getRequestedNames(Model model) {
+        final Set<String> names = new HashSet<>();
         for (BeanModel bean : model.getBeans()) {
-            final BeanModel dBean = enrichBean(bean);
-            dBeans.add(dBean);
+            names.add(getQualifiedName(bean.getOrigin()));
         }
-        final List<EnumModel> dEnums = new ArrayList<>();
         for (EnumModel enumModel : model.getEnums()) {
-            final EnumModel dEnumModel = enrichEnum(enumModel);
-            dEnums.add(dEnumModel);
+            names.add(getQualifiedName(enumModel.getOrigin()));
         }
-        final List<RestApplicationModel> dRestApplications = new ArrayList<>();
         for (RestApplicationModel restApplication : model.getRestApplications()) {
-            final RestApplicationModel dRestApplication = enrichRestApplication(restApplication);
-            dRestApplications.add(dRestApplication);
+            for (RestMethodModel restMethod : restApplication.getMethods()) {
+                names.add(getQualifiedName(restMethod.getOriginClass()));
+            }
         }
-        return new Model(dBeans, dEnums, dRestApplications);
+        return names;
     }
 
-    private BeanModel enrichBean(BeanModel bean) {
+    @Override
+    public BeanModel enrichBean(BeanModel bean) {
         if (bean.getOrigin().isInterface()) {
-            final Interface dInterface = findJavadocInterface(bean.getOrigin(), dRoots);
+            final Interface dInterface = findJavadocInterface(bean.getOrigin());
             if (dInterface != null) {
-                return enrichBean(bean, dInterface.getComment(), dInterface.getTag(), dInterface.getField(),
-                        dInterface.getMethod());
+                return withComments(bean, getComments(dInterface.getComment(), dInterface.getTag()));
             }
         } else {
-            final Class dClass = findJavadocClass(bean.getOrigin(), dRoots);
+            final Class dClass = findJavadocClass(bean.getOrigin());
             if (dClass != null) {
-                return enrichBean(bean, dClass.getComment(), dClass.getTag(), dClass.getField(), dClass.getMethod());
+                return withComments(bean, getComments(dClass.getComment(), dClass.getTag()));
             }
         }
         return bean;
     }
 
-    private BeanModel enrichBean(BeanModel bean, String beanComment, List<TagInfo> tags, List<Field> dFields,
-            List<Method> dMethods) {
-        final List<PropertyModel> enrichedProperties = new ArrayList<>();
-        for (PropertyModel property : bean.getProperties()) {
-            final PropertyModel enrichedProperty = enrichProperty(property, dFields, dMethods);
-            enrichedProperties.add(enrichedProperty);
+    @Override
+    public PropertyModel enrichProperty(BeanModel bean, PropertyModel property) {
+        final Members dMembers = getMembers(bean);
+        if (dMembers == null) {
+            return property;
         }
-        return bean
-                .withProperties(enrichedProperties)
-                .withComments(combineComments(getComments(beanComment, tags), bean.getComments()));
-    }
-
-    private PropertyModel enrichProperty(PropertyModel property, List<Field> dFields, List<Method> dMethods) {
         String propertyComment = null;
         List<TagInfo> tags = null;
         if (property.getOriginalMember() instanceof java.lang.reflect.Method method) {
-            final Method dMethod = findJavadocMethod(method.getName(), dMethods);
+            final Method dMethod = dMembers.methods.get(method.getName());
             propertyComment = dMethod != null ? dMethod.getComment() : null;
             tags = dMethod != null ? dMethod.getTag() : null;
         } else if (property.getOriginalMember() instanceof java.lang.reflect.Field field) {
-            final Field dField = findJavadocField(field.getName(), dFields);
+            final Field dField = dMembers.fields.get(field.getName());
             propertyComment = dField != null ? dField.getComment() : null;
             tags = dField != null ? dField.getTag() : null;
         }
         if (propertyComment == null) {
             //give a chance for comments on fields but not on getter setters
-            final Field dField = findJavadocField(property.getName(), dFields);
+            final Field dField = dMembers.fields.get(property.getName());
             propertyComment = dField != null ? dField.getComment() : null;
             tags = dField != null ? dField.getTag() : null;
         }
-        return property
-                .withComments(combineComments(getComments(propertyComment, tags), property.getComments()));
+        final List<String> comments = getComments(propertyComment, tags);
+        return comments != null
+                ? property.withComments(combineComments(comments, property.getComments()))
+                : property;
     }
 
-    private EnumModel enrichEnum(EnumModel enumModel) {
-        final Enum dEnum = findJavadocEnum(enumModel.getOrigin(), dRoots);
-        final List<EnumMemberModel> enrichedMembers = new ArrayList<>();
-        for (EnumMemberModel member : enumModel.getMembers()) {
-            final EnumMemberModel enrichedMember = enrichEnumMember(member, dEnum);
-            enrichedMembers.add(enrichedMember);
+    @Override
+    public EnumModel enrichEnum(EnumModel enumModel) {
+        final Enum dEnum = findJavadocEnum(enumModel.getOrigin());
+        if (dEnum == null) {
+            return enumModel;
         }
-        final String enumComment = dEnum != null ? dEnum.getComment() : null;
-        final List<TagInfo> tags = dEnum != null ? dEnum.getTag() : null;
-        return enumModel
-                .withMembers(enrichedMembers)
-                .withComments(combineComments(getComments(enumComment, tags), enumModel.getComments()));
+        final List<String> comments = getComments(dEnum.getComment(), dEnum.getTag());
+        return comments != null
+                ? enumModel.withComments(combineComments(comments, enumModel.getComments()))
+                : enumModel;
     }
 
-    private EnumMemberModel enrichEnumMember(EnumMemberModel enumMember, Enum dEnum) {
-        final EnumConstant dConstant = findJavadocEnumConstant(enumMember.getPropertyName(), dEnum);
-        final List<TagInfo> tags = dConstant != null ? dConstant.getTag() : null;
-        final String memberComment = dConstant != null ? dConstant.getComment() : null;
-        return enumMember
-                .withComments(combineComments(getComments(memberComment, tags), enumMember.getComments()));
+    @Override
+    public EnumMemberModel enrichEnumMember(EnumModel enumModel, EnumMemberModel enumMember) {
+        final Enum dEnum = findJavadocEnum(enumModel.getOrigin());
+        final EnumConstant dConstant = dEnum != null ? getMembers(dEnum).constants.get(enumMember.getPropertyName()) : null;
+        if (dConstant == null) {
+            return enumMember;
+        }
+        final List<String> comments = getComments(dConstant.getComment(), dConstant.getTag());
+        return comments != null
+                ? enumMember.withComments(combineComments(comments, enumMember.getComments()))
+                : enumMember;
     }
 
-    private RestApplicationModel enrichRestApplication(RestApplicationModel restApplicationModel) {
-        final List<RestMethodModel> enrichedRestMethods = new ArrayList<>();
-        for (RestMethodModel restMethod : restApplicationModel.getMethods()) {
-            final RestMethodModel enrichedRestMethod = enrichRestMethod(restMethod);
-            enrichedRestMethods.add(enrichedRestMethod);
-        }
-        return restApplicationModel.withMethods(enrichedRestMethods);
+    @Override
+    public RestMethodModel enrichRestMethod(RestMethodModel method) {
+        final Method dMethod = findJavadocMethod(method.getOriginClass(), method.getName());
+        final List<String> comments = dMethod != null ? getComments(dMethod.getComment(), dMethod.getTag()) : null;
+        return comments != null
+                ? method.withComments(combineComments(comments, method.getComments()))
+                : method;
     }
 
-    private RestMethodModel enrichRestMethod(RestMethodModel method) {
-        final Method dMethod = findJavadocMethod(method.getOriginClass(), method.getName(), dRoots);
-        final String comment = dMethod != null ? dMethod.getComment() : null;
-        final List<TagInfo> tags = dMethod != null ? dMethod.getTag() : null;
-        return method
-                .withComments(combineComments(getComments(comment, tags), method.getComments()));
+    private static BeanModel withComments(BeanModel bean, List<String> comments) {
+        return comments != null ? bean.withComments(combineComments(comments, bean.getComments())) : bean;
     }
 
     // finders
 
-    private static Method findJavadocMethod(java.lang.Class<?> cls, String name, List<Root> dRoots) {
-        final Class dClass = findJavadocClass(cls, dRoots);
-        final Interface dInterface = findJavadocInterface(cls, dRoots);
+    private Method findJavadocMethod(java.lang.Class<?> cls, String name) {
+        final Class dClass = findJavadocClass(cls);
         if (dClass != null) {
-            return findJavadocMethod(name, dClass.getMethod());
-        } else if (dInterface != null) {
-            return findJavadocMethod(name, dInterface.getMethod());
-        } else {
-            return null;
-        }
-    }
-
-    private static Class findJavadocClass(java.lang.Class<?> cls, List<Root> dRoots) {
-        final String name = cls.getName().replace('$', '.');
-        for (Root dRoot : dRoots) {
-            for (Package dPackage : dRoot.getPackage()) {
-                for (Class dClass : dPackage.getClazz()) {
-                    if (dClass.getQualified().equals(name)) {
-                        return dClass;
-                    }
-                }
-            }
+            return getMembers(dClass).methods.get(name);
         }
-        return null;
-    }
-
-    private static Interface findJavadocInterface(java.lang.Class<?> cls, List<Root> dRoots) {
-        final String name = cls.getName().replace('$', '.');
-        for (Root dRoot : dRoots) {
-            for (Package dPackage : dRoot.getPackage()) {
-                for (Interface dInterface : dPackage.getInterface()) {
-                    if (dInterface.getQualified().equals(name)) {
-                        return dInterface;
-                    }
-                }
-            }
+        final Interface dInterface = findJavadocInterface(cls);
+        if (dInterface != null) {
+            return getMembers(dInterface).methods.get(name);
         }
         return null;
     }
 
-    private static Field findJavadocField(String name, List<Field> dFields) {
-        if (dFields != null) {
-            for (Field dField : dFields) {
-                if (dField.getName().equals(name)) {
-                    return dField;
-                }
-            }
-        }
-        return null;
+    private Class findJavadocClass(java.lang.Class<?> cls) {
+        return dClasses.get(getQualifiedName(cls));
     }
 
-    private static Method findJavadocMethod(String name, List<Method> dMethods) {
-        if (dMethods != null) {
-            for (Method dMethod : dMethods) {
-                if (dMethod.getName().equals(name)) {
-                    return dMethod;
-                }
-            }
-        }
-        return null;
+    private Interface findJavadocInterface(java.lang.Class<?> cls) {
+        return dInterfaces.get(getQualifiedName(cls));
     }
 
-    private static Enum findJavadocEnum(java.lang.Class<?> cls, List<Root> dRoots) {
-        final String name = cls.getName().replace('$', '.');
-        for (Root dRoot : dRoots) {
-            for (Package dPackage : dRoot.getPackage()) {
-                for (Enum dEnum : dPackage.getEnum()) {
-                    if (dEnum.getQualified().equals(name)) {
-                        return dEnum;
-                    }
-                }
-            }
-        }
-        return null;
+    private Enum findJavadocEnum(java.lang.Class<?> cls) {
+        return dEnums.get(getQualifiedName(cls));
     }
 
-    private static EnumConstant findJavadocEnumConstant(String name, Enum dEnum) {
-        if (dEnum != null) {
-            for (EnumConstant dEnumConstant : dEnum.getConstant()) {
-                if (dEnumConstant.getName().equals(name)) {
-                    return dEnumConstant;
-                }
-            }
-        }
-        return null;
+    private static String getQualifiedName(java.lang.Class<?> cls) {
+        return cls.getName().replace('$', '.');
     }
 
     private List<String> getComments(String dComments, List<TagInfo> tags) {
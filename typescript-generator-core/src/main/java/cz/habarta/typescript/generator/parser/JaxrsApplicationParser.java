@@ -25,21 +25,37 @@ public class JaxrsApplicationParser extends RestApplicationParser {
 
         @Override
         public TypeProcessor getSpecificTypeProcessor() {
-            return (javaType, context) -> {
-                final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
-                if (rawClass != null) {
+            return new TypeProcessor() {
+                @Override
+                public boolean isCacheable(Object typeContext) {
+                    return true;
+                }
+
+                @Override
+                public boolean canProcess(Class<?> rawClass) {
+                    return getTsType(rawClass) != null;
+                }
+
+                @Override
+                public TypeProcessor.Result processType(Type javaType, TypeProcessor.Context context) {
+                    final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
+                    final TsType tsType = rawClass != null ? getTsType(rawClass) : null;
+                    return tsType != null ? new TypeProcessor.Result(tsType) : null;
+                }
+
+                private TsType getTsType(Class<?> rawClass) {
                     for (Map.Entry<Class<?>, TsType> entry : getStandardEntityClassesMapping().entrySet()) {
                         final Class<?> cls = entry.getKey();
                         final TsType type = entry.getValue();
                         if (cls.isAssignableFrom(rawClass)) {
-                            return type != null ? new TypeProcessor.Result(type) : null;
+                            return type;
                         }
                     }
                     if (getDefaultExcludedClassNames().contains(rawClass.getName())) {
-                        return new TypeProcessor.Result(TsType.Any);
+                        return TsType.Any;
                     }
+                    return null;
                 }
-                return null;
             };
         }
 
@@ -33,6 +33,7 @@ import java.util.stream.Stream;
 public class JsonbParser extends ModelParser {
 
     private final Class<? extends Annotation> johnzonAny;
+    private final JsonbPropertyExtractor extractor;
 
     public static class Factory extends ModelParser.Factory {
 
@@ -56,6 +57,7 @@ public class JsonbParser extends ModelParser {
             List<RestApplicationParser> restApplicationParsers) {
         super(settings, commonTypeProcessor, restApplicationParsers);
         johnzonAny = loadJohnzonAnyClass();
+        extractor = createExtractor();
     }
 
     @SuppressWarnings("unchecked")
@@ -79,7 +81,6 @@ public class JsonbParser extends ModelParser {
 
     // simplistic impl handling @JsonbProperty and @JsonbTransient on fields
     private BeanModel parseBean(final SourceType<Class<?>> sourceClass) {
-        final JsonbPropertyExtractor extractor = createExtractor();
         final List<PropertyModel> properties = extractor.visit(sourceClass.type);
 
         final Type superclass = sourceClass.type.getGenericSuperclass() == Object.class ? null
@@ -96,6 +97,7 @@ public class JsonbParser extends ModelParser {
                 interfaces, properties, null);
     }
 
+    // extractor is shared by all parsed classes so reflection metadata of common superclasses is resolved only once
     private JsonbPropertyExtractor createExtractor() {
         return new JsonbPropertyExtractor(
                 johnzonAny,
@@ -111,6 +113,7 @@ public class JsonbParser extends ModelParser {
         private final PropertyNamingStrategy naming;
         private final PropertyVisibilityStrategy visibility;
         private final BaseAccessMode delegate;
+        private final ConcurrentMap<Class<?>, Optional<Constructor<?>>> creators = new ConcurrentHashMap<>();
 
         private JsonbPropertyExtractor(
                 final Class<? extends Annotation> johnzonAny,
@@ -124,15 +127,19 @@ public class JsonbParser extends ModelParser {
         }
 
         private List<PropertyModel> visit(final Class<?> clazz) {
-            return Stream.of(clazz.getConstructors())
-                    .filter(it -> getJsonbAnnotation(it, JsonbCreator.class) != null)
-                    .findFirst()
+            return findCreator(clazz)
                     .map(it -> new ArrayList<>(Stream.concat(visitConstructor(it), visitClass(clazz).stream())
                             .collect(Collectors.toMap(PropertyModel::getName, Function.identity(), (a, b) -> a)) // merge models
                             .values()))
                     .orElseGet(() -> new ArrayList<>(visitClass(clazz)));
         }
 
+        private Optional<Constructor<?>> findCreator(final Class<?> clazz) {
+            return creators.computeIfAbsent(clazz, c -> Stream.of(c.getConstructors())
+                    .filter(it -> getJsonbAnnotation(it, JsonbCreator.class) != null)
+                    .findFirst());
+        }
+
         private Stream<PropertyModel> visitConstructor(final Constructor<?> constructor) {
             // JSON-B 1.0 assumes all constructor params are required even if impls can diverge on that due
             // to user feedbacks so for our libraryDefinition let's assume it is true.
@@ -283,6 +290,8 @@ public class JsonbParser extends ModelParser {
 
     private static class FieldAccessMode implements BaseAccessMode {
         private final Class<? extends Annotation> johnzonAny;
+        private final ConcurrentMap<Class<?>, Map<String, Field>> declaredFields = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Field, FieldDecoratedType> decoratedFields = new ConcurrentHashMap<>();
 
         public FieldAccessMode(final Class<? extends Annotation> johnzonAny) {
             this.johnzonAny = johnzonAny;
@@ -293,12 +302,15 @@ public class JsonbParser extends ModelParser {
             final Map<String, JsonbParser.DecoratedType> readers = new HashMap<>();
             for (final Map.Entry<String, Field> f : fields(clazz, true).entrySet()) {
                 final String key = f.getKey();
-                if (isIgnored(key) || (johnzonAny != null && Meta.getAnnotation(f.getValue(), johnzonAny) != null)) {
+                if (isIgnored(key)) {
                     continue;
                 }
-
-                final Field field = f.getValue();
-                readers.put(key, new FieldDecoratedType(field, field.getGenericType()));
+                final FieldDecoratedType decoratedType = decoratedFields.computeIfAbsent(f.getValue(),
+                        field -> new FieldDecoratedType(field, field.getGenericType()));
+                if (johnzonAny != null && decoratedType.getAnnotation(johnzonAny) != null) {
+                    continue;
+                }
+                readers.put(key, decoratedType);
             }
             return readers;
         }
@@ -311,7 +323,7 @@ public class JsonbParser extends ModelParser {
             final Map<String, Field> fields = new HashMap<>();
             Class<?> current = clazz;
             while (current != null && current != Object.class) {
-                for (final Field f : current.getDeclaredFields()) {
+                for (final Field f : declaredFields(current).values()) {
                     final String name = f.getName();
                     final int modifiers = f.getModifiers();
                     if (fields.containsKey(name)
@@ -327,9 +339,23 @@ public class JsonbParser extends ModelParser {
             return fields;
         }
 
+        /**
+         * @return fields declared directly in specified class by name, cached so superclasses are reflected only once
+         */
+        protected Map<String, Field> declaredFields(final Class<?> clazz) {
+            return declaredFields.computeIfAbsent(clazz, c -> {
+                final Map<String, Field> fields = new LinkedHashMap<>();
+                for (final Field f : c.getDeclaredFields()) {
+                    fields.put(f.getName(), f);
+                }
+                return fields;
+            });
+        }
+
         private static class FieldDecoratedType implements JsonbParser.DecoratedType {
             protected final Field field;
             protected final Type type;
+            private final ConcurrentMap<Class<?>, Optional<Annotation>> annotations = new ConcurrentHashMap<>();
 
             public FieldDecoratedType(final Field field, final Type type) {
                 this.field = field;
@@ -353,7 +379,9 @@ public class JsonbParser extends ModelParser {
 
             @Override
             public <T extends Annotation> T getAnnotation(final Class<T> clazz) {
-                return Meta.getAnnotation(field, clazz);
+                return clazz.cast(annotations
+                        .computeIfAbsent(clazz, c -> Optional.<Annotation>ofNullable(Meta.getAnnotation(field, clazz)))
+                        .orElse(null));
             }
 
             @Override
@@ -367,6 +395,7 @@ public class JsonbParser extends ModelParser {
 
     private static class MethodAccessMode implements BaseAccessMode {
         private final Class<? extends Annotation> johnzonAny;
+        private final ConcurrentMap<Method, MethodDecoratedType> decoratedMethods = new ConcurrentHashMap<>();
 
         public MethodAccessMode(final Class<? extends Annotation> johnzonAny) {
             this.johnzonAny = johnzonAny;
@@ -388,16 +417,20 @@ public class JsonbParser extends ModelParser {
                     final Method readMethod = descriptor.getReadMethod();
                     final String name = descriptor.getName();
                     if (readMethod != null && readMethod.getDeclaringClass() != Object.class) {
-                        if (isIgnored(name) || johnzonAny != null && Meta.getAnnotation(readMethod, johnzonAny) != null) {
+                        if (isIgnored(name)) {
                             continue;
                         }
-                        readers.put(name, new MethodDecoratedType(readMethod, readMethod.getGenericReturnType()));
+                        final MethodDecoratedType decoratedType = decorate(readMethod);
+                        if (johnzonAny != null && decoratedType.getAnnotation(johnzonAny) != null) {
+                            continue;
+                        }
+                        readers.put(name, decoratedType);
                     } else if (readMethod == null && descriptor.getWriteMethod() != null && // isXXX, not supported by javabeans
                             (descriptor.getPropertyType() == Boolean.class || descriptor.getPropertyType() == boolean.class)) {
                         try {
                             final Method method = clazz.getMethod(
                                     "is" + Character.toUpperCase(name.charAt(0)) + (name.length() > 1 ? name.substring(1) : ""));
-                            readers.put(name, new MethodDecoratedType(method, method.getGenericReturnType()));
+                            readers.put(name, decorate(method));
                         } catch (final NoSuchMethodException e) {
                             // no-op
                         }
@@ -411,6 +444,10 @@ public class JsonbParser extends ModelParser {
             return name.equals("metaClass") || name.contains("$");
         }
 
+        private MethodDecoratedType decorate(final Method method) {
+            return decoratedMethods.computeIfAbsent(method, m -> new MethodDecoratedType(m, m.getGenericReturnType()));
+        }
+
         private PropertyDescriptor[] getPropertyDescriptors(final Class<?> clazz) {
             final PropertyDescriptor[] propertyDescriptors;
             try {
@@ -424,6 +461,7 @@ public class JsonbParser extends ModelParser {
         public static class MethodDecoratedType implements DecoratedType {
             protected final Method method;
             protected final Type type;
+            private final ConcurrentMap<Class<?>, Optional<Annotation>> annotations = new ConcurrentHashMap<>();
 
             public MethodDecoratedType(final Method method, final Type type) {
                 this.method = method;
@@ -447,7 +485,9 @@ public class JsonbParser extends ModelParser {
 
             @Override
             public <T extends Annotation> T getAnnotation(final Class<T> clazz) {
-                return Meta.getAnnotation(method, clazz);
+                return clazz.cast(annotations
+                        .computeIfAbsent(clazz, c -> Optional.<Annotation>ofNullable(Meta.getAnnotation(method, clazz)))
+                        .orElse(null));
             }
 
             @Override
@@ -462,6 +502,7 @@ public class JsonbParser extends ModelParser {
     private static class FieldAndMethodAccessMode implements BaseAccessMode {
         private final FieldAccessMode fields;
         private final MethodAccessMode methods;
+        private final ConcurrentMap<Field, FieldAccessMode.FieldDecoratedType> fallbackFields = new ConcurrentHashMap<>();
 
         private FieldAndMethodAccessMode(final Class<? extends Annotation> johnzonAny) {
             this.fields = new FieldAccessMode(johnzonAny);
@@ -491,7 +532,8 @@ public class JsonbParser extends ModelParser {
                 if (existing == null) {
                     if (f != null) { // useful to hold the Field and transient state for example, just as fallback
                         readers.put(entry.getKey(), new CompositeDecoratedType<>(
-                                entry.getValue(), new FieldAccessMode.FieldDecoratedType(f, f.getType())));
+                                entry.getValue(), fallbackFields.computeIfAbsent(f,
+                                        field -> new FieldAccessMode.FieldDecoratedType(field, field.getType()))));
                     } else {
                         readers.put(entry.getKey(), entry.getValue());
                     }
@@ -506,10 +548,9 @@ public class JsonbParser extends ModelParser {
         private Field getField(final String fieldName, final Class<?> type) {
             Class<?> t = type;
             while (t != Object.class && t != null) {
-                try {
-                    return t.getDeclaredField(fieldName);
-                } catch (final NoSuchFieldException e) {
-                    // no-op
+                final Field field = fields.declaredFields(t).get(fieldName);
+                if (field != null) {
+                    return field;
                 }
                 t = t.getSuperclass();
             }
@@ -563,6 +604,8 @@ public class JsonbParser extends ModelParser {
     private static class DefaultPropertyVisibilityStrategy implements PropertyVisibilityStrategy {
         private final ClassLoader classLoader;
         private final ConcurrentMap<Class<?>, PropertyVisibilityStrategy> strategies = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, PropertyVisibilityStrategy> packageStrategies = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Member, Boolean> visibleMembers = new ConcurrentHashMap<>();
 
         public DefaultPropertyVisibilityStrategy(ClassLoader classLoader) {
             this.classLoader = classLoader;
@@ -570,27 +613,39 @@ public class JsonbParser extends ModelParser {
 
         @Override
         public boolean isVisible(final Field field) {
-            if (getJsonbAnnotation(field, JsonbProperty.class) != null) {
-                return true;
-            }
-            final PropertyVisibilityStrategy strategy = strategies.computeIfAbsent(
-                    field.getDeclaringClass(), this::visibilityStrategy);
-            return strategy == this ? Modifier.isPublic(field.getModifiers()) : strategy.isVisible(field);
+            return visibleMembers.computeIfAbsent(field, member -> {
+                if (getJsonbAnnotation(field, JsonbProperty.class) != null) {
+                    return true;
+                }
+                final PropertyVisibilityStrategy strategy = strategies.computeIfAbsent(
+                        field.getDeclaringClass(), this::visibilityStrategy);
+                return strategy == this ? Modifier.isPublic(field.getModifiers()) : strategy.isVisible(field);
+            });
         }
 
         @Override
         public boolean isVisible(final Method method) {
-            final PropertyVisibilityStrategy strategy = strategies.computeIfAbsent(
-                    method.getDeclaringClass(), this::visibilityStrategy);
-            return strategy == this ? Modifier.isPublic(method.getModifiers()) : strategy.isVisible(method);
+            return visibleMembers.computeIfAbsent(method, member -> {
+                final PropertyVisibilityStrategy strategy = strategies.computeIfAbsent(
+                        method.getDeclaringClass(), this::visibilityStrategy);
+                return strategy == this ? Modifier.isPublic(method.getModifiers()) : strategy.isVisible(method);
+            });
         }
 
         private PropertyVisibilityStrategy visibilityStrategy(final Class<?> type) {
-            JsonbVisibility visibility = getJsonbAnnotation(type, JsonbVisibility.class);
+            final JsonbVisibility visibility = getJsonbAnnotation(type, JsonbVisibility.class);
             if (visibility != null) {
                 return newVisibilityStrategy(visibility);
             }
-            Package p = type.getPackage();
+            final Package pkg = type.getPackage();
+            return pkg != null
+                    ? packageStrategies.computeIfAbsent(pkg.getName(), name -> packageVisibilityStrategy(pkg))
+                    : this;
+        }
+
+        private PropertyVisibilityStrategy packageVisibilityStrategy(final Package pkg) {
+            JsonbVisibility visibility;
+            Package p = pkg;
             while (p != null) {
                 visibility = getJsonbAnnotation(p, JsonbVisibility.class);
                 if (visibility != null) {
@@ -0,0 +1,51 @@
+package cz.habarta.typescript.generator.parser;
+
+import cz.habarta.typescript.generator.compiler.EnumMemberModel;
+
+/**
+ * Adds information to parsed model, for example comments from Javadoc or annotations.
+ * All enrichers are applied by {@link ModelEnricherPipeline} in one pass over the model.
+ * Each method receives element already processed by previous enrichers
+ * and should return the same instance when it doesn't change anything.
+ */
+public interface ModelEnricher {
+
+    /**
+     * Called once before the model is walked, can be used to prepare data for classes in the model.
+     */
+    default void prepare(Model model) {
+    }
+
+    /**
+     * Called after all properties of the bean were enriched.
+     */
+    default BeanModel enrichBean(BeanModel bean) {
+        return bean;
+    }
+
+    /**
+     * @param bean bean declaring the property, as it was before enrichment
+     */
+    default PropertyModel enrichProperty(BeanModel bean, PropertyModel property) {
+        return property;
+    }
+
+    /**
+     * Called after all members of the enum were enriched.
+     */
+    default EnumModel enrichEnum(EnumModel enumModel) {
+        return enumModel;
+    }
+
+    /**
+     * @param enumModel enum declaring the member, as it was before enrichment
+     */
+    default EnumMemberModel enrichEnumMember(EnumModel enumModel, EnumMemberModel enumMember) {
+        return enumMember;
+    }
+
+    default RestMethodModel enrichRestMethod(RestMethodModel restMethod) {
+        return restMethod;
+    }
+
+}
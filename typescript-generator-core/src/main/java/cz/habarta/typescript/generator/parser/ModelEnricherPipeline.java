@@ -0,0 +1,96 @@
+package cz.habarta.typescript.generator.parser;
+
+import cz.habarta.typescript.generator.compiler.EnumMemberModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Applies list of {@link ModelEnricher}s walking the model only once.
+ * Elements are passed through all enrichers in order and copied only when some enricher changed them.
+ */
+public class ModelEnricherPipeline {
+
+    private final List<ModelEnricher> enrichers;
+
+    public ModelEnricherPipeline(List<ModelEnricher> enrichers) {
+        this.enrichers = enrichers;
+    }
+
+    public Model enrichModel(Model model) {
+        if (enrichers.isEmpty()) {
+            return model;
+        }
+        for (ModelEnricher enricher : enrichers) {
+            enricher.prepare(model);
+        }
+        return new Model(
+                mapList(model.getBeans(), this::enrichBean),
+                mapList(model.getEnums(), this::enrichEnum),
+                mapList(model.getRestApplications(), this::enrichRestApplication));
+    }
+
+    private BeanModel enrichBean(BeanModel bean) {
+        final List<PropertyModel> properties = mapList(bean.getProperties(), property -> {
+            PropertyModel result = property;
+            for (ModelEnricher enricher : enrichers) {
+                result = enricher.enrichProperty(bean, result);
+            }
+            return result;
+        });
+        BeanModel result = properties != bean.getProperties() ? bean.withProperties(properties) : bean;
+        for (ModelEnricher enricher : enrichers) {
+            result = enricher.enrichBean(result);
+        }
+        return result;
+    }
+
+    private EnumModel enrichEnum(EnumModel enumModel) {
+        final List<EnumMemberModel> members = mapList(enumModel.getMembers(), member -> {
+            EnumMemberModel result = member;
+            for (ModelEnricher enricher : enrichers) {
+                result = enricher.enrichEnumMember(enumModel, result);
+            }
+            return result;
+        });
+        EnumModel result = members != enumModel.getMembers() ? enumModel.withMembers(members) : enumModel;
+        for (ModelEnricher enricher : enrichers) {
+            result = enricher.enrichEnum(result);
+        }
+        return result;
+    }
+
+    private RestApplicationModel enrichRestApplication(RestApplicationModel restApplication) {
+        final List<RestMethodModel> methods = mapList(restApplication.getMethods(), method -> {
+            RestMethodModel result = method;
+            for (ModelEnricher enricher : enrichers) {
+                result = enricher.enrichRestMethod(result);
+            }
+            return result;
+        });
+        return methods != restApplication.getMethods() ? restApplication.withMethods(methods) : restApplication;
+    }
+
+    /**
+     * Returns the same list if mapper didn't change any item.
+     */
+    private static <T> List<T> mapList(List<T> list, UnaryOperator<T> mapper) {
+        if (list == null) {
+            return null;
+        }
+        List<T> result = null;
+        for (int i = 0; i < list.size(); i++) {
+            final T item = list.get(i);
+            final T mapped = mapper.apply(item);
+            if (result == null && mapped != item) {
+                result = new ArrayList<>(list.subList(0, i));
+            }
+            if (result != null) {
+                result.add(mapped);
+            }
+        }
+        return result != null ? result : list;
+    }
+
+}
@@ -4,6 +4,7 @@ package cz.habarta.typescript.generator.parser;
 import cz.habarta.typescript.generator.*;
 import cz.habarta.typescript.generator.compiler.EnumKind;
 import cz.habarta.typescript.generator.compiler.EnumMemberModel;
+import cz.habarta.typescript.generator.type.TypeKey;
 import cz.habarta.typescript.generator.util.AnnotationGetter;
 import cz.habarta.typescript.generator.util.GenericsResolver;
 import cz.habarta.typescript.generator.util.PropertyMember;
@@ -12,15 +13,18 @@ import cz.habarta.typescript.generator.util.Utils;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public abstract class ModelParser {
     protected final Settings settings;
-    private final Javadoc javadoc;
-    private final DeprecationEnricher deprecationEnricher;
-    private final Queue<SourceType<? extends Type>> typeQueue;
+    private final ModelEnricherPipeline enricherPipeline;
+    private final SourceTypeQueue typeQueue;
+    private final ThreadLocal<List<SourceType<? extends Type>>> discoveredTypes = new ThreadLocal<>();
     private final TypeProcessor commonTypeProcessor;
     private final List<RestApplicationParser> restApplicationParsers;
 
@@ -35,9 +39,8 @@ public abstract class ModelParser {
     public ModelParser(Settings settings, TypeProcessor commonTypeProcessor,
             List<RestApplicationParser> restApplicationParsers) {
         this.settings = settings;
-        this.javadoc = new Javadoc(settings);
-        this.deprecationEnricher = new DeprecationEnricher();
-        this.typeQueue = new LinkedList<>();
+        this.enricherPipeline = new ModelEnricherPipeline(createModelEnrichers(settings));
+        this.typeQueue = new SourceTypeQueue();
         this.restApplicationParsers = restApplicationParsers;
         this.commonTypeProcessor = commonTypeProcessor;
     }
@@ -48,63 +51,78 @@ public abstract class ModelParser {
 
     public Model parseModel(List<SourceType<Type>> types) {
         typeQueue.addAll(types);
-        Model model = parseQueue();
+        final Model model = parseQueue();
+        return enricherPipeline.enrichModel(model);
+    }
+
+    private static List<ModelEnricher> createModelEnrichers(Settings settings) {
+        final List<ModelEnricher> enrichers = new ArrayList<>();
         if (!settings.ignoreSwaggerAnnotations) {
-            model = Swagger.enrichModel(model);
+            enrichers.add(Swagger.getModelEnricher());
         }
-        model = javadoc.enrichModel(model);
-        model = deprecationEnricher.enrichModel(model);
-        return model;
+        enrichers.add(new Javadoc(settings));
+        enrichers.add(new DeprecationEnricher());
+        enrichers.addAll(settings.modelEnrichers);
+        return enrichers;
     }
 
+    /**
+     * Parses queued types level by level (breadth-first).
+     * Classes of one level can be parsed in parallel (see {@link Settings#parserParallelism}),
+     * types discovered while parsing them are then enqueued in the same order as in sequential parsing
+     * so resulting model doesn't depend on number of threads or their timing.
+     */
     private Model parseQueue() {
-        final Collection<Type> parsedTypes = new ArrayList<>(); // do not use hashcodes, we can only count on `equals` since we use custom `ParameterizedType`s
+        final Set<TypeKey> parsedTypes = new HashSet<>(); // `TypeKey` because JDK and custom `ParameterizedType`s have inconsistent hashcodes
         final List<BeanModel> beans = new ArrayList<>();
         final List<EnumModel> enums = new ArrayList<>();
-        SourceType<? extends Type> sourceType;
-        while ((sourceType = typeQueue.poll()) != null) {
-            if (parsedTypes.contains(sourceType.type)) {
-                continue;
-            }
-            parsedTypes.add(sourceType.type);
-
-            // REST resource
-            boolean parsedByRestApplicationParser = false;
-            for (RestApplicationParser restApplicationParser : restApplicationParsers) {
-                final JaxrsApplicationParser.Result jaxrsResult = restApplicationParser.tryParse(sourceType);
-                if (jaxrsResult != null) {
-                    typeQueue.addAll(jaxrsResult.discoveredTypes);
-                    parsedByRestApplicationParser = true;
+        final ForkJoinPool pool = settings.parserParallelism > 1 ? createParserPool(settings.parserParallelism) : null;
+        try {
+            List<SourceType<? extends Type>> level;
+            while (!(level = typeQueue.drain()).isEmpty()) {
+                final List<ParseTask> tasks = new ArrayList<>();
+                for (SourceType<? extends Type> sourceType : level) {
+                    if (!parsedTypes.add(TypeKey.of(sourceType.type))) {
+                        continue;
+                    }
+                    final ParseTask task = createParseTask(sourceType);
+                    if (task != null) {
+                        tasks.add(task);
+                    }
                 }
-            }
-            if (parsedByRestApplicationParser) {
-                continue;
-            }
-
-            final TypeProcessor.Result result = commonTypeProcessor.processTypeInTemporaryContext(sourceType.type, null, settings);
-            if (result != null) {
-                if (sourceType.type instanceof Class<?> cls
-                        && result.getTsType() instanceof TsType.ReferenceType referenceType) {
-                    if (!referenceType.symbol.isResolved()) {
-                        TypeScriptGenerator.getLogger().verbose("Parsing '" + cls.getName() + "'" +
-                                (sourceType.usedInClass != null
-                                        ? " used in '" + sourceType.usedInClass.getSimpleName() + "."
-                                                + sourceType.usedInMember + "'"
-                                        : ""));
-                        final DeclarationModel model = parseClass(sourceType.asSourceClass());
-                        if (model instanceof EnumModel) {
-                            enums.add((EnumModel) model);
-                        } else if (model instanceof BeanModel) {
-                            beans.add((BeanModel) model);
-                        } else {
-                            throw new RuntimeException();
+                if (pool != null) {
+                    final List<ForkJoinTask<?>> futures = new ArrayList<>();
+                    for (ParseTask task : tasks) {
+                        if (task.parse) {
+                            futures.add(pool.submit(() -> runParseTask(task)));
+                        }
+                    }
+                    futures.forEach(ForkJoinTask::join);
+                } else {
+                    for (ParseTask task : tasks) {
+                        if (task.parse) {
+                            runParseTask(task);
                         }
                     }
                 }
-                for (Class<?> cls : result.getDiscoveredClasses()) {
-                    typeQueue.add(new SourceType<>(cls, sourceType.usedInClass, sourceType.usedInMember));
+                for (ParseTask task : tasks) {
+                    if (task.model instanceof EnumModel enumModel) {
+                        enums.add(enumModel);
+                    } else if (task.model instanceof BeanModel beanModel) {
+                        beans.add(beanModel);
+                    } else if (task.parse) {
+                        throw new RuntimeException();
+                    }
+                    typeQueue.addAll(task.discoveredTypes);
+                    for (Class<?> cls : task.discoveredClasses) {
+                        typeQueue.add(new SourceType<>(cls, task.sourceType.usedInClass, task.sourceType.usedInMember));
+                    }
                 }
             }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
         }
         final List<RestApplicationModel> restModels = restApplicationParsers.stream()
                 .map(RestApplicationParser::getModel)
@@ -112,6 +130,70 @@ public abstract class ModelParser {
         return new Model(beans, enums, restModels);
     }
 
+    private ParseTask createParseTask(SourceType<? extends Type> sourceType) {
+        // REST resource
+        boolean parsedByRestApplicationParser = false;
+        final ParseTask task = new ParseTask(sourceType);
+        for (RestApplicationParser restApplicationParser : restApplicationParsers) {
+            final JaxrsApplicationParser.Result jaxrsResult = restApplicationParser.tryParse(sourceType);
+            if (jaxrsResult != null) {
+                task.discoveredTypes.addAll(jaxrsResult.discoveredTypes);
+                parsedByRestApplicationParser = true;
+            }
+        }
+        if (parsedByRestApplicationParser) {
+            return task;
+        }
+
+        final TypeProcessor.Result result = commonTypeProcessor.processTypeInTemporaryContext(sourceType.type, null, settings);
+        if (result == null) {
+            return null;
+        }
+        if (sourceType.type instanceof Class<?> cls
+                && result.getTsType() instanceof TsType.ReferenceType referenceType) {
+            if (!referenceType.symbol.isResolved()) {
+                TypeScriptGenerator.getLogger().verbose("Parsing '" + cls.getName() + "'" +
+                        (sourceType.usedInClass != null
+                                ? " used in '" + sourceType.usedInClass.getSimpleName() + "."
+                                        + sourceType.usedInMember + "'"
+                                : ""));
+                task.parse = true;
+            }
+        }
+        task.discoveredClasses = result.getDiscoveredClasses();
+        return task;
+    }
+
+    private void runParseTask(ParseTask task) {
+        discoveredTypes.set(task.discoveredTypes);
+        try {
+            task.model = parseClass(task.sourceType.asSourceClass());
+        } finally {
+            discoveredTypes.remove();
+        }
+    }
+
+    private static ForkJoinPool createParserPool(int parallelism) {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return new ForkJoinPool(parallelism, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }, null, false);
+    }
+
+    private static class ParseTask {
+        final SourceType<? extends Type> sourceType;
+        final List<SourceType<? extends Type>> discoveredTypes = new ArrayList<>();
+        List<Class<?>> discoveredClasses = Collections.emptyList();
+        boolean parse;
+        DeclarationModel model;
+
+        ParseTask(SourceType<? extends Type> sourceType) {
+            this.sourceType = sourceType;
+        }
+    }
+
     protected abstract DeclarationModel parseClass(SourceType<Class<?>> sourceClass);
 
     protected static PropertyMember wrapMember(TypeParser typeParser, Member propertyMember, Integer creatorIndex,
@@ -203,7 +285,12 @@ public abstract class ModelParser {
     }
 
     protected void addBeanToQueue(SourceType<? extends Type> sourceType) {
-        typeQueue.add(sourceType);
+        final List<SourceType<? extends Type>> discovered = discoveredTypes.get();
+        if (discovered != null) {
+            discovered.add(sourceType);
+        } else {
+            typeQueue.add(sourceType);
+        }
     }
 
     protected PropertyModel processTypeAndCreateProperty(String name, Type type, Object typeContext, boolean optional,
@@ -213,7 +300,7 @@ public abstract class ModelParser {
         final List<Class<?>> classes = commonTypeProcessor.discoverClassesUsedInType(resolvedType, typeContext,
                 settings);
         for (Class<?> cls : classes) {
-            typeQueue.add(new SourceType<>(cls, usedInClass, name));
+            addBeanToQueue(new SourceType<>(cls, usedInClass, name));
         }
         return new PropertyModel(name, resolvedType, optional, access, originalMember, pullProperties, typeContext, comments);
     }
@@ -0,0 +1,43 @@
+package cz.habarta.typescript.generator.parser;
+
+import cz.habarta.typescript.generator.type.TypeKey;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * FIFO queue of types waiting to be parsed which ignores types that are already waiting in the queue.
+ * First occurrence of a type wins so the discovery order (and `usedInClass` information) is the same
+ * as if duplicates were skipped when processed.
+ * Types are taken from the queue by whole levels using {@link #drain()}.
+ */
+class SourceTypeQueue {
+    private final Queue<SourceType<? extends Type>> queue = new ArrayDeque<>();
+    private final Set<TypeKey> pending = new HashSet<>();
+
+    public void add(SourceType<? extends Type> sourceType) {
+        if (pending.add(TypeKey.of(sourceType.type))) {
+            queue.add(sourceType);
+        }
+    }
+
+    public void addAll(Collection<? extends SourceType<? extends Type>> sourceTypes) {
+        for (SourceType<? extends Type> sourceType : sourceTypes) {
+            add(sourceType);
+        }
+    }
+
+    public List<SourceType<? extends Type>> drain() {
+        final List<SourceType<? extends Type>> sourceTypes = new ArrayList<>(queue);
+        queue.clear();
+        pending.clear();
+        return sourceTypes;
+    }
+
+}
@@ -133,27 +133,32 @@ public class Swagger {
     }
 
     public static Model enrichModel(Model model) {
-        final List<BeanModel> dBeans = new ArrayList<>();
-        for (BeanModel bean : model.getBeans()) {
-            final BeanModel dBean = enrichBean(bean);
-            dBeans.add(dBean);
-        }
-        return new Model(dBeans, model.getEnums(), model.getRestApplications());
+        return new ModelEnricherPipeline(List.of(getModelEnricher())).enrichModel(model);
+    }
+
+    public static ModelEnricher getModelEnricher() {
+        return new ModelEnricher() {
+            @Override
+            public BeanModel enrichBean(BeanModel bean) {
+                return Swagger.enrichBean(bean);
+            }
+
+            @Override
+            public PropertyModel enrichProperty(BeanModel bean, PropertyModel property) {
+                return Swagger.enrichProperty(property);
+            }
+        };
     }
 
     private static BeanModel enrichBean(BeanModel bean) {
-        final List<PropertyModel> enrichedProperties = new ArrayList<>();
-        for (PropertyModel property : bean.getProperties()) {
-            final PropertyModel enrichedProperty = enrichProperty(property);
-            enrichedProperties.add(enrichedProperty);
-        }
         final String comment = firstResult(
                 () -> Utils.getAnnotationElementValue(bean.getOrigin(), "io.swagger.v3.oas.annotations.media.Schema",
                         "description", String.class),
                 () -> Utils.getAnnotationElementValue(bean.getOrigin(), "io.swagger.annotations.ApiModel",
                         "description", String.class));
-        final List<String> comments = comment != null && !comment.isEmpty() ? List.of(comment) : null;
-        return bean.withProperties(enrichedProperties).withComments(Utils.concat(comments, bean.getComments()));
+        return comment != null && !comment.isEmpty()
+                ? bean.withComments(Utils.concat(List.of(comment), bean.getComments()))
+                : bean;
     }
 
     private static PropertyModel enrichProperty(PropertyModel property) {
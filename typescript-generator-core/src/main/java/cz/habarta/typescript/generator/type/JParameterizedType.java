@@ -36,7 +36,7 @@ public class JParameterizedType implements ParameterizedType {
 
     @Override
     public int hashCode() {
-        return Objects.hash(ownerType, rawType, actualTypeArguments);
+        return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
     }
 
     @Override
@@ -40,6 +40,23 @@ public class JTypeWithNullability implements Type {
         return Utils.transformContainedTypes(type, JTypeWithNullability::removeNullability);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(type) ^ Boolean.hashCode(isNullable);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof JTypeWithNullability that) {
+            return isNullable == that.isNullable && Objects.equals(type, that.type);
+        } else {
+            return false;
+        }
+    }
+
     @Override
     public String toString() {
         return type + (isNullable ? "?" : "!");
@@ -4,6 +4,7 @@ package cz.habarta.typescript.generator.type;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class JUnionType implements Type {
@@ -21,6 +22,23 @@ public class JUnionType implements Type {
         return types;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(types);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof JUnionType that) {
+            return Objects.equals(types, that.types);
+        } else {
+            return false;
+        }
+    }
+
     @Override
     public String toString() {
         return "(" +
@@ -0,0 +1,152 @@
+package cz.habarta.typescript.generator.type;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hashable key for {@link Type} with structural equality.
+ * JDK implementations of reflection types and our own J* implementations are not mutually consistent
+ * in <code>equals</code> and <code>hashCode</code>, so this key compares and hashes the type tree itself.
+ */
+public final class TypeKey {
+    private final Type type;
+    private final int hash;
+
+    private TypeKey(Type type) {
+        this.type = type;
+        this.hash = hash(type);
+    }
+
+    public static TypeKey of(Type type) {
+        return new TypeKey(Objects.requireNonNull(type, "type"));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof TypeKey that) {
+            return hash == that.hash && structurallyEquals(type, that.type);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type.toString();
+    }
+
+    private static int hash(Type type) {
+        if (type == null) {
+            return 0;
+        }
+        if (type instanceof Class<?>) {
+            return type.hashCode();
+        }
+        if (type instanceof ParameterizedType parameterizedType) {
+            return 31 * (31 * hash(parameterizedType.getRawType()) + hash(parameterizedType.getOwnerType()))
+                    + hash(parameterizedType.getActualTypeArguments());
+        }
+        if (type instanceof GenericArrayType genericArrayType) {
+            return 37 * hash(genericArrayType.getGenericComponentType()) + 1;
+        }
+        if (type instanceof WildcardType wildcardType) {
+            return 41 * hash(wildcardType.getUpperBounds()) + hash(wildcardType.getLowerBounds());
+        }
+        if (type instanceof TypeVariable<?> typeVariable) {
+            return 43 * Objects.hashCode(typeVariable.getGenericDeclaration()) + typeVariable.getName().hashCode();
+        }
+        if (type instanceof JUnionType unionType) {
+            return 47 * hash(unionType.getTypes().toArray(new Type[0])) + 2;
+        }
+        if (type instanceof JTypeWithNullability typeWithNullability) {
+            return 53 * hash(typeWithNullability.getType()) + (typeWithNullability.isNullable() ? 1 : 0);
+        }
+        return type.hashCode();
+    }
+
+    private static int hash(Type[] types) {
+        int result = 1;
+        for (Type type : types) {
+            result = 31 * result + hash(type);
+        }
+        return result;
+    }
+
+    public static boolean structurallyEquals(Type type1, Type type2) {
+        if (type1 == type2) {
+            return true;
+        }
+        if (type1 == null || type2 == null) {
+            return false;
+        }
+        if (type1 instanceof Class<?> || type2 instanceof Class<?>) {
+            return false;
+        }
+        if (type1 instanceof ParameterizedType p1 && type2 instanceof ParameterizedType p2) {
+            return structurallyEquals(p1.getRawType(), p2.getRawType())
+                    && structurallyEquals(p1.getOwnerType(), p2.getOwnerType())
+                    && structurallyEquals(p1.getActualTypeArguments(), p2.getActualTypeArguments());
+        }
+        if (type1 instanceof GenericArrayType a1 && type2 instanceof GenericArrayType a2) {
+            return structurallyEquals(a1.getGenericComponentType(), a2.getGenericComponentType());
+        }
+        if (type1 instanceof WildcardType w1 && type2 instanceof WildcardType w2) {
+            return structurallyEquals(w1.getUpperBounds(), w2.getUpperBounds())
+                    && structurallyEquals(w1.getLowerBounds(), w2.getLowerBounds());
+        }
+        if (type1 instanceof TypeVariable<?> v1 && type2 instanceof TypeVariable<?> v2) {
+            return Objects.equals(v1.getGenericDeclaration(), v2.getGenericDeclaration())
+                    && Objects.equals(v1.getName(), v2.getName());
+        }
+        if (type1 instanceof JUnionType u1 && type2 instanceof JUnionType u2) {
+            return structurallyEquals(u1.getTypes(), u2.getTypes());
+        }
+        if (type1 instanceof JTypeWithNullability n1 && type2 instanceof JTypeWithNullability n2) {
+            return n1.isNullable() == n2.isNullable()
+                    && structurallyEquals(n1.getType(), n2.getType());
+        }
+        return type1.equals(type2);
+    }
+
+    private static boolean structurallyEquals(Type[] types1, Type[] types2) {
+        if (types1.length != types2.length) {
+            return false;
+        }
+        for (int i = 0; i < types1.length; i++) {
+            if (!structurallyEquals(types1[i], types2[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean structurallyEquals(List<Type> types1, List<Type> types2) {
+        if (types1.size() != types2.size()) {
+            return false;
+        }
+        for (int i = 0; i < types1.size(); i++) {
+            if (!structurallyEquals(types1.get(i), types2.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
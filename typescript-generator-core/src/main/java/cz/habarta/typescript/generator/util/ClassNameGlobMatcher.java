@@ -0,0 +1,136 @@
+package cz.habarta.typescript.generator.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Matches class names against list of glob patterns where <code>*</code> matches any characters except <code>.</code> and <code>$</code>
+ * and <code>**</code> matches any characters (same dialect as {@link Utils#globsToRegexps(List)}).
+ * All patterns are combined into one automaton which is determinized lazily while matching,
+ * so each class name is matched in one pass regardless of number of patterns
+ * and matching stops at first character which no pattern accepts (for example outside of pattern packages).
+ * Instances are thread-safe.
+ */
+public class ClassNameGlobMatcher implements Predicate<String> {
+
+    private static final int STAR = -1;
+    private static final int DOUBLE_STAR = -2;
+    private static final int END = -3;
+
+    // tokens of all patterns concatenated, each pattern is terminated by END
+    private final int[] tokens;
+    private final Map<BitSet, State> states = new ConcurrentHashMap<>();
+    private final State initialState;
+
+    private ClassNameGlobMatcher(List<String> globs) {
+        final List<Integer> tokenList = new ArrayList<>();
+        final BitSet starts = new BitSet();
+        for (String glob : globs) {
+            starts.set(tokenList.size());
+            for (int i = 0; i < glob.length(); i++) {
+                if (glob.startsWith("**", i)) {
+                    tokenList.add(DOUBLE_STAR);
+                    i++;
+                } else if (glob.charAt(i) == '*') {
+                    tokenList.add(STAR);
+                } else {
+                    tokenList.add((int) glob.charAt(i));
+                }
+            }
+            tokenList.add(END);
+        }
+        this.tokens = tokenList.stream().mapToInt(Integer::intValue).toArray();
+        this.initialState = getState(closure(starts));
+    }
+
+    public static ClassNameGlobMatcher compile(List<String> globs) {
+        return new ClassNameGlobMatcher(globs != null ? globs : List.of());
+    }
+
+    @Override
+    public boolean test(String className) {
+        State state = initialState;
+        for (int i = 0; i < className.length(); i++) {
+            if (state.positions.isEmpty()) {
+                return false;
+            }
+            state = state.next(className.charAt(i));
+        }
+        return state.accepting;
+    }
+
+    /**
+     * Returns packages which contain all classes matching specified patterns
+     * (derived from literal prefixes of patterns) or <code>null</code> if some pattern can match class in any package.
+     */
+    public static List<String> getPackages(List<String> globs) {
+        final Set<String> packages = new LinkedHashSet<>();
+        for (String glob : globs) {
+            final int wildcardIndex = glob.indexOf('*');
+            final String literalPrefix = wildcardIndex != -1 ? glob.substring(0, wildcardIndex) : glob;
+            final int packageEnd = literalPrefix.lastIndexOf('.');
+            if (packageEnd <= 0) {
+                return null;
+            }
+            packages.add(literalPrefix.substring(0, packageEnd));
+        }
+        return new ArrayList<>(packages);
+    }
+
+    private final class State {
+        private final BitSet positions;
+        private final boolean accepting;
+        private final Map<Character, State> transitions = new ConcurrentHashMap<>();
+
+        private State(BitSet positions) {
+            this.positions = positions;
+            boolean accepting = false;
+            for (int p = positions.nextSetBit(0); p >= 0; p = positions.nextSetBit(p + 1)) {
+                accepting |= tokens[p] == END;
+            }
+            this.accepting = accepting;
+        }
+
+        private State next(char c) {
+            final State cached = transitions.get(c);
+            if (cached != null) {
+                return cached;
+            }
+            final BitSet nextPositions = new BitSet();
+            for (int p = positions.nextSetBit(0); p >= 0; p = positions.nextSetBit(p + 1)) {
+                final int token = tokens[p];
+                if (token == c) {
+                    nextPositions.set(p + 1);
+                } else if (token == DOUBLE_STAR || (token == STAR && c != '.' && c != '$')) {
+                    nextPositions.set(p);
+                }
+            }
+            final State next = getState(closure(nextPositions));
+            transitions.put(c, next);
+            return next;
+        }
+    }
+
+    private State getState(BitSet positions) {
+        return states.computeIfAbsent(positions, State::new);
+    }
+
+    /**
+     * Adds positions after wildcards which can match empty string.
+     */
+    private BitSet closure(BitSet positions) {
+        for (int p = positions.nextSetBit(0); p >= 0; p = positions.nextSetBit(p + 1)) {
+            if (tokens[p] == STAR || tokens[p] == DOUBLE_STAR) {
+                positions.set(p + 1);
+            }
+        }
+        return positions;
+    }
+
+}
@@ -5,9 +5,20 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 public class GenericsResolver {
+
+    // inheritance paths by descendant class and ancestor class, type variables of descendant class are left unresolved
+    private static final ClassValue<ConcurrentMap<Class<?>, Optional<List<ResolvedClass>>>> inheritancePaths = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Class<?>, Optional<List<ResolvedClass>>> computeValue(Class<?> descendant) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     public static Type resolveField(Class<?> cls, Field field) {
         final Type fieldType = field.getGenericType();
         return resolveType(cls, fieldType, field.getDeclaringClass());
@@ -20,10 +31,11 @@ public class GenericsResolver {
     }
 
     public static List<String> mapGenericVariablesToBase(Class<?> derivedClass, Class<?> baseClass) {
-        final List<ResolvedClass> path = traverseSomeInheritancePath(derivedClass, baseClass);
-        if (path == null) {
+        final List<ResolvedClass> cachedPath = traverseSomeInheritancePath(derivedClass, baseClass);
+        if (cachedPath == null) {
             return null;
         }
+        final List<ResolvedClass> path = new ArrayList<>(cachedPath);
         Collections.reverse(path);
         List<String> result = Arrays.stream(derivedClass.getTypeParameters())
                 .map(TypeVariable::getName)
@@ -57,9 +69,14 @@ public class GenericsResolver {
                 return Collections.nCopies(baseClass.getTypeParameters().length, Object.class);
             }
             final ResolvedClass resolvedContextType = new ResolvedClass(null, null, null).resolveAncestor(contextType);
-            final List<ResolvedClass> path = traverseSomeInheritancePath(resolvedContextType, baseClass);
-            final ResolvedClass resolvedClass = path != null && !path.isEmpty() ? path.get(0) : resolvedContextType;
-            return new ArrayList<>(resolvedClass.resolvedTypeParameters.values());
+            final List<ResolvedClass> path = traverseSomeInheritancePath(resolvedContextType.rawClass, baseClass);
+            if (path == null || path.isEmpty()) {
+                return new ArrayList<>(resolvedContextType.resolvedTypeParameters.values());
+            }
+            // cached path is resolved for raw context class, substitute type arguments of context type
+            return path.get(0).resolvedTypeParameters.values().stream()
+                    .map(resolvedContextType::resolveType)
+                    .collect(Collectors.toList());
         }
         return Arrays.asList(baseClass.getTypeParameters());
     }
@@ -79,8 +96,15 @@ public class GenericsResolver {
         return null;
     }
 
+    /**
+     * @return unmodifiable path from ancestor (first item) to direct ancestor of descendant (last item)
+     *     or <code>null</code> if ancestor is not generic ancestor of descendant
+     */
     private static List<ResolvedClass> traverseSomeInheritancePath(Class<?> descendant, Class<?> ancestor) {
-        return traverseSomeInheritancePath(new ResolvedClass(descendant, null, null), ancestor);
+        return inheritancePaths.get(descendant)
+                .computeIfAbsent(ancestor, a -> Optional.ofNullable(traverseSomeInheritancePath(new ResolvedClass(descendant, null, null), a))
+                        .map(Collections::unmodifiableList))
+                .orElse(null);
     }
 
     private static List<ResolvedClass> traverseSomeInheritancePath(ResolvedClass descendant, Class<?> ancestor) {
@@ -13,6 +13,7 @@ import cz.habarta.typescript.generator.type.JUnionType;
 
 import java.io.*;
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -128,8 +129,16 @@ public final class Utils {
         return getAnnotationElementValue(annotation, annotationElementName, annotationElementType);
     }
 
+    @SuppressWarnings("unchecked")
     public static Annotation getAnnotation(AnnotatedElement annotatedElement, String annotationClassName) {
         if (annotatedElement != null) {
+            final Optional<Class<?>> annotationClass = resolveAnnotationClass(annotatedElement, annotationClassName);
+            if (annotationClass != null) {
+                // annotation class which is not visible from declaring class cannot be present
+                return annotationClass.isPresent()
+                        ? annotatedElement.getAnnotation((Class<? extends Annotation>) annotationClass.get())
+                        : null;
+            }
             for (Annotation annotation : annotatedElement.getAnnotations()) {
                 if (annotation.annotationType().getName().equals(annotationClassName)) {
                     return annotation;
@@ -139,17 +148,70 @@ public final class Utils {
         return null;
     }
 
+    // annotation classes resolved by name, cached per class loader (weakly so class loaders of finished builds can be collected)
+    private static final Map<ClassLoader, Map<String, Optional<WeakReference<Class<?>>>>> annotationClasses = new WeakHashMap<>();
+
+    /**
+     * Returns annotation class with specified name as seen from class declaring the element,
+     * empty Optional if there is no such annotation class or null if declaring class cannot be determined.
+     */
+    private static Optional<Class<?>> resolveAnnotationClass(AnnotatedElement annotatedElement, String annotationClassName) {
+        final Class<?> declaringClass;
+        if (annotatedElement instanceof Class<?> cls) {
+            declaringClass = cls;
+        } else if (annotatedElement instanceof Member member) {
+            declaringClass = member.getDeclaringClass();
+        } else if (annotatedElement instanceof Parameter parameter) {
+            declaringClass = parameter.getDeclaringExecutable().getDeclaringClass();
+        } else {
+            return null;
+        }
+        final ClassLoader classLoader = declaringClass.getClassLoader();
+        synchronized (annotationClasses) {
+            final Map<String, Optional<WeakReference<Class<?>>>> classes = annotationClasses.computeIfAbsent(classLoader, key -> new HashMap<>());
+            final Optional<WeakReference<Class<?>>> cached = classes.get(annotationClassName);
+            final Class<?> cachedClass = cached != null && cached.isPresent() ? cached.get().get() : null;
+            if (cached != null && (cached.isEmpty() || cachedClass != null)) {
+                return Optional.ofNullable(cachedClass);
+            }
+            Class<?> annotationClass;
+            try {
+                annotationClass = Class.forName(annotationClassName, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                annotationClass = null;
+            }
+            if (annotationClass != null && !annotationClass.isAnnotation()) {
+                annotationClass = null;
+            }
+            classes.put(annotationClassName, Optional.ofNullable(annotationClass).map(WeakReference::new));
+            return Optional.ofNullable(annotationClass);
+        }
+    }
+
+    // annotation element methods by annotation implementation class and element name
+    private static final ClassValue<Map<String, Method>> annotationElementMethods = new ClassValue<>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> annotationImplementationClass) {
+            final Map<String, Method> methods = new HashMap<>();
+            for (Method method : annotationImplementationClass.getMethods()) {
+                if (method.getParameterCount() == 0) {
+                    methods.putIfAbsent(method.getName(), method);
+                }
+            }
+            return methods;
+        }
+    };
+
     @SuppressWarnings("unchecked")
     public static <T> T getAnnotationElementValue(Annotation annotation, String annotationElementName,
             Class<T> annotationElementType) {
         try {
             if (annotation != null) {
-                for (Method method : annotation.getClass().getMethods()) {
-                    if (method.getName().equals(annotationElementName)) {
-                        final Object value = method.invoke(annotation);
-                        if (annotationElementType.isInstance(value)) {
-                            return (T) value;
-                        }
+                final Method method = annotationElementMethods.get(annotation.getClass()).get(annotationElementName);
+                if (method != null) {
+                    final Object value = method.invoke(annotation);
+                    if (annotationElementType.isInstance(value)) {
+                        return (T) value;
                     }
                 }
             }
@@ -0,0 +1,137 @@
+package cz.habarta.typescript.generator;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class ClasspathScanIndexTest {
+
+    @TempDir
+    File cacheDirectory;
+
+    @Test
+    public void testSameResultsAsClassGraph() {
+        final List<String> acceptedPackages = List.of("cz.habarta.typescript.generator");
+        final ClasspathScanIndex index = ClasspathScanIndex.create(new ClassGraph().getClasspathFiles(), acceptedPackages, cacheDirectory, false);
+        try (ScanResult scanResult = new ClassGraph()
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility()
+                .acceptPackages(acceptedPackages.toArray(new String[0]))
+                .scan()) {
+            final List<String> allClassNames = new ArrayList<>();
+            allClassNames.addAll(scanResult.getAllStandardClasses().getNames());
+            allClassNames.addAll(scanResult.getAllInterfaces().getNames());
+            Collections.sort(allClassNames);
+            Assertions.assertEquals(allClassNames, index.getAllClassNames());
+            for (Class<?> cls : List.of(MyInterface.class, TypeProcessor.class)) {
+                Assertions.assertEquals(scanResult.getClassesImplementing(cls.getName()).getNames(), index.getClassesImplementing(cls.getName()));
+            }
+            for (Class<?> cls : List.of(MyClass.class, Settings.class)) {
+                Assertions.assertEquals(scanResult.getSubclasses(cls.getName()).getNames(), index.getSubclasses(cls.getName()));
+            }
+            for (Class<?> cls : List.of(MyAnnotation.class, MyInheritedAnnotation.class, jakarta.ws.rs.Path.class)) {
+                Assertions.assertEquals(scanResult.getClassesWithAnnotation(cls.getName()).getNames(), index.getClassesWithAnnotation(cls.getName()));
+            }
+        }
+        Assertions.assertEquals(List.of(MyAnnotatedClass.class.getName(), MyMetaAnnotatedClass.class.getName(), MyMetaAnnotation.class.getName()),
+                index.getClassesWithAnnotation(MyAnnotation.class.getName()));
+        Assertions.assertEquals(List.of(MyInheritedAnnotatedClass.class.getName(), MyInheritingClass.class.getName()),
+                index.getClassesWithAnnotation(MyInheritedAnnotation.class.getName()));
+        Assertions.assertEquals(List.of(MyClass.class.getName(), MySubclass.class.getName(), MySubinterface.class.getName()),
+                index.getClassesImplementing(MyInterface.class.getName()));
+    }
+
+    @Test
+    public void testCache() {
+        final List<File> classpath = new ClassGraph().getClasspathFiles();
+        final List<String> acceptedPackages = List.of("cz.habarta.typescript.generator");
+        final ClasspathScanIndex index1 = ClasspathScanIndex.create(classpath, acceptedPackages, cacheDirectory, false);
+        Assertions.assertEquals(0, index1.getCachedEntries());
+        final ClasspathScanIndex index2 = ClasspathScanIndex.create(classpath, acceptedPackages, cacheDirectory, false);
+        Assertions.assertEquals(0, index2.getScannedEntries());
+        Assertions.assertEquals(index1.getScannedEntries(), index2.getCachedEntries());
+        Assertions.assertEquals(index1.getAllClassNames(), index2.getAllClassNames());
+        Assertions.assertEquals(index1.getSubclasses(MyClass.class.getName()), index2.getSubclasses(MyClass.class.getName()));
+        // different accepted packages are cached separately
+        final ClasspathScanIndex index3 = ClasspathScanIndex.create(classpath, List.of("cz.habarta.typescript.generator.ext"), cacheDirectory, false);
+        Assertions.assertEquals(0, index3.getCachedEntries());
+        Assertions.assertFalse(index3.getAllClassNames().contains(MyClass.class.getName()));
+    }
+
+    @Test
+    public void testUnwritableCacheDirectory() throws IOException {
+        final File notDirectory = new File(cacheDirectory, "file");
+        Files.writeString(notDirectory.toPath(), "not a directory");
+        final List<String> acceptedPackages = List.of("cz.habarta.typescript.generator");
+        final ClasspathScanIndex index = ClasspathScanIndex.create(new ClassGraph().getClasspathFiles(), acceptedPackages, notDirectory, false);
+        Assertions.assertEquals(0, index.getCachedEntries());
+        Assertions.assertTrue(index.getAllClassNames().contains(MyClass.class.getName()));
+    }
+
+    @Test
+    public void testInputFromParameters() {
+        final Input.Parameters parameters = new Input.Parameters();
+        parameters.classesImplementingInterfaces = List.of(MyInterface.class.getName());
+        parameters.scanningAcceptedPackages = List.of("cz.habarta.typescript.generator");
+        parameters.scanningCacheDirectory = cacheDirectory;
+        final String output = new TypeScriptGenerator(TestUtils.settings()).generateTypeScript(Input.from(parameters));
+        Assertions.assertTrue(output.contains("interface MySubclass extends MyClass"));
+    }
+
+    private interface MyInterface {
+    }
+
+    private interface MySubinterface extends MyInterface {
+    }
+
+    private static class MyClass implements MyInterface {
+        public String name;
+    }
+
+    private static class MySubclass extends MyClass {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface MyAnnotation {
+    }
+
+    @MyAnnotation
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface MyMetaAnnotation {
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface MyInheritedAnnotation {
+    }
+
+    @MyAnnotation
+    private static class MyAnnotatedClass {
+    }
+
+    @MyMetaAnnotation
+    private static class MyMetaAnnotatedClass {
+    }
+
+    @MyInheritedAnnotation
+    private static class MyInheritedAnnotatedClass {
+    }
+
+    private static class MyInheritingClass extends MyInheritedAnnotatedClass {
+    }
+
+}
@@ -59,7 +59,48 @@ public class ExtensionTest {
         Assertions.assertTrue(result.getBean(Implementation.class).getComments().get(0).contains("My new comment"));
     }
 
+    @Test
+    public void testTypeTransformerExtension() {
+        final Settings settings = TestUtils.settings();
+        settings.mapDate = DateMapping.asString;
+        settings.mapMap = MapMapping.asRecord;
+        settings.extensions.add(new Extension() {
+
+            @Override
+            public EmitterExtensionFeatures getFeatures() {
+                return new EmitterExtensionFeatures();
+            }
+
+            @Override
+            public List<TransformerDefinition> getTransformers() {
+                return List.of(
+                        new TransformerDefinition(TransformationPhase.BeforeEnums, new TsType.Transformer() {
+                            @Override
+                            public TsType transform(TsType.Context context, TsType tsType) {
+                                return tsType == TsType.Number ? new TsType.VerbatimType("Long") : tsType;
+                            }
+                        }),
+                        new TransformerDefinition(TransformationPhase.BeforeSymbolResolution, new TsType.Transformer() {
+                            @Override
+                            public TsType transform(TsType.Context context, TsType tsType) {
+                                return tsType == TsType.Boolean ? new TsType.VerbatimType("Flag") : tsType;
+                            }
+                        }));
+            }
+        });
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(TypesBean.class));
+        Assertions.assertTrue(output.contains("created: DateAsString;"));
+        Assertions.assertTrue(output.contains("counts: Record<string, Long>;"));
+        Assertions.assertTrue(output.contains("enabled: Flag;"));
+    }
+
     private static class Implementation {
     }
 
+    private static class TypesBean {
+        public java.util.Date created;
+        public java.util.Map<String, Long> counts;
+        public boolean enabled;
+    }
+
 }
@@ -203,6 +203,46 @@ public class GenericsResolverTest {
     interface StringMap extends Map<String, String> {
     }
 
+    @Test
+    public void testResolvingSameHierarchyRepeatedly() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertEquals(Long.class, GenericsResolver.resolveField(UserDto.class, UserDto.class.getField("id")));
+            assertEquals(Utils.createParameterizedType(List.class, String.class),
+                    GenericsResolver.resolveField(UserDto.class, UserDto.class.getField("modifiedBy")));
+            assertEquals(Integer.class, GenericsResolver.resolveField(OrderDto.class, OrderDto.class.getField("id")));
+            assertEquals(Arrays.asList("ID", null), GenericsResolver.mapGenericVariablesToBase(AuditedEntity.class, AbstractEntity.class));
+        }
+    }
+
+    @Test
+    public void testResolvingGenericVariablesInDifferentContextTypes() throws NoSuchFieldException {
+        for (int i = 0; i < 2; i++) {
+            assertEquals(Arrays.asList("java.lang.Long"), getTypeNames(GenericsResolver.resolveBaseGenericVariables(AbstractEntity.class,
+                    EntityUsage.class.getField("longEntity").getGenericType())));
+            assertEquals(Arrays.asList("java.lang.String"), getTypeNames(GenericsResolver.resolveBaseGenericVariables(AbstractEntity.class,
+                    EntityUsage.class.getField("stringEntity").getGenericType())));
+        }
+    }
+
+    static class AbstractEntity<ID> {
+        public ID id;
+    }
+
+    static class AuditedEntity<ID, U> extends AbstractEntity<ID> {
+        public List<U> modifiedBy;
+    }
+
+    static class UserDto extends AuditedEntity<Long, String> {
+    }
+
+    static class OrderDto extends AuditedEntity<Integer, String> {
+    }
+
+    static class EntityUsage {
+        public AuditedEntity<Long, Boolean> longEntity;
+        public AuditedEntity<String, Boolean> stringEntity;
+    }
+
     private static List<String> getTypeNames(List<Type> types) {
         return types.stream().map(Type::getTypeName).collect(Collectors.toList());
     }
@@ -0,0 +1,164 @@
+package cz.habarta.typescript.generator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+public class IncrementalGenerationCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<String> messages = new ArrayList<>();
+    private Logger originalLogger;
+
+    @BeforeEach
+    public void setUp() {
+        originalLogger = TypeScriptGenerator.getLogger();
+        TypeScriptGenerator.setLogger(new Logger(Logger.Level.Info) {
+            @Override
+            protected void write(Level level, String message) {
+                messages.add(message);
+            }
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TypeScriptGenerator.setLogger(originalLogger);
+    }
+
+    @Test
+    public void testUnchangedClassesReuseOutput() throws Exception {
+        compile("Base", "public class Base { public String id; }");
+        compile("Item", "public class Item extends Base { public String name; }");
+        final String output = generate(TestUtils.settings());
+        Assertions.assertTrue(output.contains("name: string;"));
+        Assertions.assertFalse(usedCache());
+
+        Assertions.assertEquals(output, generate(TestUtils.settings()));
+        Assertions.assertTrue(usedCache());
+    }
+
+    @Test
+    public void testChangedSupertypeInvalidatesOutput() throws Exception {
+        compile("Base", "public class Base { public String id; }");
+        compile("Item", "public class Item extends Base { public String name; }");
+        Assertions.assertFalse(generate(TestUtils.settings()).contains("count"));
+
+        compile("Base", "public class Base { public String id; public int count; }");
+        Assertions.assertTrue(generate(TestUtils.settings()).contains("count: number;"));
+        Assertions.assertFalse(usedCache());
+    }
+
+    @Test
+    public void testChangedSettingsInvalidateOutput() throws Exception {
+        compile("Item", "public class Item { public String name; }");
+        generate(TestUtils.settings());
+
+        final Settings settings = TestUtils.settings();
+        settings.declarePropertiesAsReadOnly = true;
+        Assertions.assertTrue(generate(settings).contains("readonly name: string;"));
+        Assertions.assertFalse(usedCache());
+    }
+
+    @Test
+    public void testChangedExcludeFilterInvalidatesOutput() throws Exception {
+        compile("Detail", "public class Detail { public String text; }");
+        compile("Item", "public class Item { public Detail detail; }");
+        Assertions.assertTrue(generate(TestUtils.settings()).contains("detail: Detail;"));
+
+        final Settings settings = TestUtils.settings();
+        settings.setExcludeFilter(null, List.of("Det*"));
+        final String output = generate(settings);
+        Assertions.assertFalse(usedCache());
+        Assertions.assertTrue(output.contains("detail: any;"));
+        Assertions.assertFalse(output.contains("interface Detail"));
+    }
+
+    @Test
+    public void testUnwritableCacheDirectoryDoesNotFailGeneration() throws Exception {
+        compile("Item", "public class Item { public String name; }");
+        Files.writeString(tempDir.resolve("cache"), "not a directory");
+        Assertions.assertTrue(generate(TestUtils.settings()).contains("name: string;"));
+        Assertions.assertTrue(messages.stream().anyMatch(message -> message.contains("Incremental cache not stored")));
+        Assertions.assertTrue(generate(TestUtils.settings()).contains("name: string;"));
+        Assertions.assertFalse(usedCache());
+    }
+
+    @Test
+    public void testChangedPackageInfoInvalidatesOutput() throws Exception {
+        compile("p/Item", "package p; public class Item { public String name; }");
+        generate(TestUtils.settings(), "p.Item", (settings, classLoader) -> {});
+        generate(TestUtils.settings(), "p.Item", (settings, classLoader) -> {});
+        Assertions.assertTrue(usedCache());
+
+        compile("p/package-info", "@Deprecated package p;");
+        generate(TestUtils.settings(), "p.Item", (settings, classLoader) -> {});
+        Assertions.assertFalse(usedCache());
+    }
+
+    @Test
+    public void testChangedCustomTypeProcessorInvalidatesOutput() throws Exception {
+        compile("Item", "public class Item { public String name; }");
+        compile("Processor", "public class Processor implements cz.habarta.typescript.generator.TypeProcessor {"
+                + " public Result processType(java.lang.reflect.Type type, Context context) { return null; } }");
+        final BiConsumer<Settings, ClassLoader> customTypeProcessor = (settings, classLoader) -> settings.loadCustomTypeProcessor(classLoader, "Processor");
+        Assertions.assertTrue(generate(TestUtils.settings(), "Item", customTypeProcessor).contains("name: string;"));
+        generate(TestUtils.settings(), "Item", customTypeProcessor);
+        Assertions.assertTrue(usedCache());
+
+        compile("Processor", "public class Processor implements cz.habarta.typescript.generator.TypeProcessor {"
+                + " public Result processType(java.lang.reflect.Type type, Context context) {"
+                + " return type == String.class ? new Result(cz.habarta.typescript.generator.TsType.Number) : null; } }");
+        Assertions.assertTrue(generate(TestUtils.settings(), "Item", customTypeProcessor).contains("name: number;"));
+        Assertions.assertFalse(usedCache());
+    }
+
+    private void compile(String className, String source) throws IOException {
+        final Path sources = Files.createDirectories(tempDir.resolve("sources"));
+        final Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        final Path sourceFile = sources.resolve(className + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source);
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final String classPath = classes + File.pathSeparator + System.getProperty("java.class.path");
+        final int result = compiler.run(null, null, null, "-proc:none", "-cp", classPath, "-d", classes.toString(), sourceFile.toString());
+        Assertions.assertEquals(0, result);
+    }
+
+    private String generate(Settings settings) throws Exception {
+        return generate(settings, "Item", (s, classLoader) -> {});
+    }
+
+    private String generate(Settings settings, String className, BiConsumer<Settings, ClassLoader> configurer) throws Exception {
+        messages.clear();
+        final File outputFile = tempDir.resolve("output/test.d.ts").toFile();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { tempDir.resolve("classes").toUri().toURL() }, getClass().getClassLoader())) {
+            settings.classLoader = classLoader;
+            settings.incrementalCacheDirectory = tempDir.resolve("cache").toFile();
+            configurer.accept(settings, classLoader);
+            new TypeScriptGenerator(settings).generateTypeScript(Input.from(classLoader.loadClass(className)), Output.to(outputFile));
+        }
+        return Files.readString(outputFile.toPath());
+    }
+
+    private boolean usedCache() {
+        return messages.stream().anyMatch(message -> message.contains("using output from incremental cache"));
+    }
+
+}
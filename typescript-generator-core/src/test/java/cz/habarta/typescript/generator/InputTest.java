@@ -5,11 +5,15 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @SuppressWarnings("unused")
 public class InputTest {
@@ -87,6 +91,21 @@ public class InputTest {
         Assertions.assertTrue(output.contains("lastName: string;"));
     }
 
+    @Test
+    public void testClassesFilteredBeforeLoading(@TempDir File cacheDirectory) {
+        for (File scanningCacheDirectory : Arrays.asList(null, cacheDirectory)) {
+            final Input.Parameters parameters = new Input.Parameters();
+            parameters.classesImplementingInterfaces = List.of(MyFilteredInterface.class.getName());
+            parameters.isClassNameExcluded = className -> className.equals(MyExcludedImpl.class.getName());
+            parameters.scanningAcceptedPackages = List.of("cz.habarta.typescript.generator");
+            parameters.scanningCacheDirectory = scanningCacheDirectory;
+            final List<Type> types = Input.from(parameters).getSourceTypes().stream()
+                    .map(sourceType -> sourceType.type)
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(List.of(MyFilteredImpl.class), types);
+        }
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     private @interface MyJsonClass {
     }
@@ -107,4 +126,16 @@ public class InputTest {
         public String name;
     }
 
+    private interface MyFilteredInterface {
+    }
+
+    private static class MyFilteredImpl implements MyFilteredInterface {
+    }
+
+    private static class MyExcludedImpl implements MyFilteredInterface {
+    }
+
+    private static final MyFilteredInterface anonymousImpl = new MyFilteredInterface() {
+    };
+
 }
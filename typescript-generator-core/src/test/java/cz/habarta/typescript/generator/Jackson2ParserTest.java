@@ -358,6 +358,75 @@ public class Jackson2ParserTest {
         Empty
     }
 
+    @Test
+    public void testIntrospectPropertiesWithoutSerializers() {
+        final Input input = Input.from(ClassWithIntrospectedProperties.class, StatusEnum.class);
+        final Settings settings = TestUtils.settings();
+        final String expected = new TypeScriptGenerator(settings).generateTypeScript(input);
+        settings.jackson2Configuration = new Jackson2ConfigurationResolved();
+        settings.jackson2Configuration.introspectPropertiesWithoutSerializers = true;
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(input);
+        Assertions.assertEquals(expected, output);
+        Assertions.assertTrue(output.contains("id: string"));
+        Assertions.assertTrue(output.contains("tags: string[]"));
+        Assertions.assertTrue(output.contains("password: string"));
+        Assertions.assertTrue(output.contains("code: number"));
+        Assertions.assertTrue(output.contains("parent: ClassWithIntrospectedProperties"));
+        Assertions.assertFalse(output.contains("internal"));
+        Assertions.assertFalse(output.contains("metadata"));
+        Assertions.assertFalse(output.contains("ACTIVE"));
+    }
+
+    @JsonIgnoreProperties({"internal"})
+    private static class ClassWithIntrospectedProperties {
+        private final String id;
+        public String internal;
+        @JsonBackReference
+        public ClassWithIntrospectedProperties parent;
+        public IgnoredMetadata metadata;
+
+        @JsonCreator
+        public ClassWithIntrospectedProperties(@JsonProperty("id") String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public List<String> getTags() {
+            return null;
+        }
+
+        @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+        public void setPassword(String password) {
+        }
+
+        public StatusEnum getStatus() {
+            return null;
+        }
+    }
+
+    @JsonIgnoreType
+    private static class IgnoredMetadata {
+        public String value;
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.OBJECT)
+    private enum StatusEnum {
+        ACTIVE(1);
+
+        private final int code;
+
+        StatusEnum(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+    }
+
     public static class NamedSubtypeModule extends SimpleModule {
         private static final long serialVersionUID = 1L;
 
@@ -17,6 +17,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +25,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.xml.bind.annotation.XmlElement;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -109,6 +112,32 @@ public class Jackson3ParserTest {
         Assertions.assertEquals("NamedByModule", bean5.getDiscriminantLiteral());
     }
 
+    @Test
+    public void testIntrospectionCacheStatistics() {
+        final List<String> messages = new ArrayList<>();
+        final Logger originalLogger = TypeScriptGenerator.getLogger();
+        TypeScriptGenerator.setLogger(new Logger(Logger.Level.Verbose) {
+            @Override
+            protected void write(Level level, String message) {
+                messages.add(message);
+            }
+        });
+        try {
+            final Model model = getJackson3Parser().parseModel(SubTypeDiscriminatedByName1.class);
+            Assertions.assertEquals(5, model.getBeans().size());
+        } finally {
+            TypeScriptGenerator.setLogger(originalLogger);
+        }
+        final String statistics = messages.stream()
+                .filter(message -> message.startsWith("Jackson3 introspection cache: "))
+                .findFirst()
+                .orElseThrow();
+        final Matcher matcher = Pattern.compile("(\\d+) hits, (\\d+) misses").matcher(statistics);
+        Assertions.assertTrue(matcher.find());
+        Assertions.assertTrue(Integer.parseInt(matcher.group(1)) > 0, statistics);
+        Assertions.assertTrue(Integer.parseInt(matcher.group(2)) > 0, statistics);
+    }
+
     static Jackson3Parser getJackson3Parser() {
         final Settings settings = new Settings();
         settings.jackson3Modules.add(NamedSubtypeModule.class);
@@ -0,0 +1,50 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.type.JParameterizedType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MemoizingTypeProcessorTest {
+
+    @Test
+    public void testCacheableResultsAreReused() throws Exception {
+        final Settings settings = TestUtils.settings();
+        final MemoizingTypeProcessor processor = new MemoizingTypeProcessor(new TypeProcessor.Chain(
+                new ExcludingTypeProcessor(List.of()),
+                new DefaultTypeProcessor()));
+        final Type jdkType = Bean.class.getField("items").getGenericType();
+        final Type customType = new JParameterizedType(List.class, new Type[] { Bean.class }, null);
+        Assertions.assertEquals(List.of(Bean.class), processor.discoverClassesUsedInType(jdkType, null, settings));
+        Assertions.assertEquals(List.of(Bean.class), processor.discoverClassesUsedInType(customType, null, settings));
+        Assertions.assertFalse(processor.isTypeExcluded(jdkType, null, settings));
+        Assertions.assertEquals(2, processor.getHits());
+        Assertions.assertEquals(1, processor.getMisses());
+        Assertions.assertEquals(0, processor.getUncacheable());
+    }
+
+    @Test
+    public void testNonCacheableProcessorIsAlwaysCalled() {
+        final Settings settings = TestUtils.settings();
+        final AtomicInteger calls = new AtomicInteger();
+        final MemoizingTypeProcessor processor = new MemoizingTypeProcessor(new TypeProcessor.Chain(
+                (javaType, context) -> {
+                    calls.incrementAndGet();
+                    return null;
+                },
+                new DefaultTypeProcessor()));
+        processor.processTypeInTemporaryContext(String.class, null, settings);
+        processor.processTypeInTemporaryContext(String.class, null, settings);
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(0, processor.getHits() + processor.getMisses());
+        Assertions.assertEquals(2, processor.getUncacheable());
+    }
+
+    static class Bean {
+        public List<Bean> items;
+    }
+
+}
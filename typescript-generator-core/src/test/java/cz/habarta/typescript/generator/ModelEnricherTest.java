@@ -0,0 +1,74 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.compiler.EnumMemberModel;
+import cz.habarta.typescript.generator.parser.BeanModel;
+import cz.habarta.typescript.generator.parser.EnumModel;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.ModelEnricher;
+import cz.habarta.typescript.generator.parser.ModelEnricherPipeline;
+import cz.habarta.typescript.generator.parser.PropertyModel;
+import cz.habarta.typescript.generator.util.Utils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ModelEnricherTest {
+
+    @Test
+    public void testCustomEnricher() {
+        final Settings settings = TestUtils.settings();
+        settings.mapEnum = EnumMapping.asEnum;
+        settings.loadModelEnrichers(getClass().getClassLoader(), List.of(UppercaseNameEnricher.class.getName()));
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(Bean.class));
+        Assertions.assertTrue(output.contains("Bean comment for BEAN"));
+        Assertions.assertTrue(output.contains("Property comment for NAME"));
+        // custom enrichers run after built-in enrichers
+        Assertions.assertTrue(output.contains("@deprecated\n     * Property comment for OLDNAME"), output);
+        Assertions.assertTrue(output.contains("Enum comment for DIRECTION"));
+        Assertions.assertTrue(output.contains("Member comment for NORTH"));
+    }
+
+    @Test
+    public void testUnchangedModel() {
+        final Settings settings = TestUtils.settings();
+        final Model model = new TypeScriptGenerator(settings).getModelParser().parseModel(Bean.class);
+        final Model enrichedModel = new ModelEnricherPipeline(List.of(new ModelEnricher() {})).enrichModel(model);
+        Assertions.assertSame(model.getBeans(), enrichedModel.getBeans());
+        Assertions.assertSame(model.getEnums(), enrichedModel.getEnums());
+    }
+
+    public static class UppercaseNameEnricher implements ModelEnricher {
+        @Override
+        public BeanModel enrichBean(BeanModel bean) {
+            return bean.withComments(List.of("Bean comment for " + bean.getOrigin().getSimpleName().toUpperCase()));
+        }
+
+        @Override
+        public PropertyModel enrichProperty(BeanModel bean, PropertyModel property) {
+            return property.withComments(Utils.concat(property.getComments(), List.of("Property comment for " + property.getName().toUpperCase())));
+        }
+
+        @Override
+        public EnumModel enrichEnum(EnumModel enumModel) {
+            return enumModel.withComments(List.of("Enum comment for " + enumModel.getOrigin().getSimpleName().toUpperCase()));
+        }
+
+        @Override
+        public EnumMemberModel enrichEnumMember(EnumModel enumModel, EnumMemberModel enumMember) {
+            return enumMember.withComments(List.of("Member comment for " + enumMember.getPropertyName()));
+        }
+    }
+
+    private static class Bean {
+        public String name;
+        @Deprecated
+        public String oldName;
+        public Direction direction;
+    }
+
+    private enum Direction {
+        NORTH, SOUTH
+    }
+
+}
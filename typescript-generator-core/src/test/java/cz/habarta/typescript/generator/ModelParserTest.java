@@ -2,6 +2,7 @@
 package cz.habarta.typescript.generator;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import cz.habarta.typescript.generator.parser.BeanModel;
 import cz.habarta.typescript.generator.parser.Jackson2Parser;
 import cz.habarta.typescript.generator.parser.Model;
 import cz.habarta.typescript.generator.parser.ModelParser;
@@ -12,6 +13,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 public class ModelParserTest {
     @Test
@@ -63,6 +65,19 @@ public class ModelParserTest {
         Assertions.assertEquals(0, model.getBeans().size());
     }
 
+    @Test
+    public void testParallelParsingKeepsDiscoveryOrder() {
+        final Settings settings = TestUtils.settings();
+        final Model sequentialModel = new TypeScriptGenerator(settings).getModelParser().parseModel(RootClass3.class);
+        settings.parserParallelism = 4;
+        final Model parallelModel = new TypeScriptGenerator(settings).getModelParser().parseModel(RootClass3.class);
+        Assertions.assertEquals(
+                sequentialModel.getBeans().stream().map(BeanModel::getOrigin).collect(Collectors.toList()),
+                parallelModel.getBeans().stream().map(BeanModel::getOrigin).collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(RootClass3.class, NodeClassB.class, Tag.class),
+                parallelModel.getBeans().stream().map(BeanModel::getOrigin).collect(Collectors.toList()));
+    }
+
     private Model parseModel(Type type, String... excludedClassNames) {
         final Settings settings = new Settings();
         settings.setExcludeFilter(Arrays.asList(excludedClassNames), null);
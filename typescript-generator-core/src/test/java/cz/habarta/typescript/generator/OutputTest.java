@@ -0,0 +1,65 @@
+package cz.habarta.typescript.generator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+public class OutputTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testUnchangedFileIsNotRewritten() throws Exception {
+        final File file = tempDir.resolve("test.d.ts").toFile();
+        write(file, "// Generated using typescript-generator version 1.0 on 2020-01-01 10:00:00.\ninterface A {}\n");
+        final FileTime modified = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(file.toPath(), modified);
+
+        write(file, "// Generated using typescript-generator version 1.0 on 2021-02-02 11:11:11.\ninterface A {}\n");
+        Assertions.assertEquals(modified, Files.getLastModifiedTime(file.toPath()));
+        Assertions.assertTrue(Files.readString(file.toPath()).contains("2020-01-01"));
+
+        write(file, "// Generated using typescript-generator version 1.0 on 2021-02-02 11:11:11.\ninterface B {}\n");
+        Assertions.assertEquals("// Generated using typescript-generator version 1.0 on 2021-02-02 11:11:11.\ninterface B {}\n",
+                Files.readString(file.toPath()));
+        try (var files = Files.list(tempDir)) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testGeneratedFilesKeepModificationTime() throws Exception {
+        final Settings settings = TestUtils.settings();
+        settings.noFileComment = false;
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.generateInfoJson = true;
+        settings.generateNpmPackageJson = true;
+        settings.npmName = "a";
+        settings.npmVersion = "1.0.0";
+        settings.writeOnlyChangedFiles = true;
+        final File output = tempDir.resolve("test.ts").toFile();
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(DummyBean.class), Output.to(output, true));
+        final FileTime modified = FileTime.fromMillis(1_000_000_000_000L);
+        for (String name : new String[] {"test.ts", "typescript-generator-info.json", "package.json"}) {
+            Files.setLastModifiedTime(tempDir.resolve(name), modified);
+        }
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(DummyBean.class), Output.to(output, true));
+        for (String name : new String[] {"test.ts", "typescript-generator-info.json", "package.json"}) {
+            Assertions.assertEquals(modified, Files.getLastModifiedTime(tempDir.resolve(name)), name);
+        }
+    }
+
+    private static void write(File file, String content) throws Exception {
+        final Output output = Output.to(file, true);
+        output.getWriter().write(content);
+        output.getWriter().close();
+    }
+
+}
@@ -0,0 +1,59 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.compiler.Symbol;
+import cz.habarta.typescript.generator.emitter.TsAliasModel;
+import cz.habarta.typescript.generator.emitter.TsBeanCategory;
+import cz.habarta.typescript.generator.emitter.TsBeanModel;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TsModelTest {
+
+    @Test
+    public void testLookups() {
+        final TsBeanModel a = bean(A.class, new Symbol("A"));
+        final TsBeanModel b = bean(B.class, new Symbol("B"));
+        final TsAliasModel alias = new TsAliasModel(B.class, new Symbol("BAlias"), null, TsType.String, null);
+        final TsModel tsModel = new TsModel().withBeans(new ArrayList<>(List.of(a, b))).withTypeAliases(List.of(alias));
+        Assertions.assertSame(a, tsModel.getBean(A.class));
+        Assertions.assertSame(b, tsModel.getBean(b.getName()));
+        Assertions.assertNull(tsModel.getBean(new Symbol("B")));
+        Assertions.assertNull(tsModel.getBean((Class<?>) null));
+        Assertions.assertSame(alias, tsModel.getTypeAlias(B.class));
+        Assertions.assertNull(tsModel.getTypeAlias(A.class));
+    }
+
+    @Test
+    public void testLookupsAfterModification() {
+        final TsBeanModel a = bean(A.class, new Symbol("A"));
+        final TsBeanModel b = bean(B.class, new Symbol("B"));
+        final TsModel tsModel = new TsModel().withBeans(new ArrayList<>(List.of(a)));
+        Assertions.assertNull(tsModel.getBean(B.class));
+
+        // beans appended in place
+        tsModel.getBeans().add(b);
+        Assertions.assertSame(b, tsModel.getBean(B.class));
+
+        // models created by `with` methods
+        final TsModel withoutA = tsModel.withoutBeans(List.of(a));
+        Assertions.assertNull(withoutA.getBean(A.class));
+        Assertions.assertSame(b, withoutA.withAddedEnums(List.of()).getBean(B.class));
+        final TsBeanModel otherA = bean(A.class, new Symbol("A2"));
+        Assertions.assertSame(otherA, tsModel.withBeans(List.of(otherA, a)).getBean(A.class));
+    }
+
+    private static TsBeanModel bean(Class<?> origin, Symbol name) {
+        return new TsBeanModel(origin, TsBeanCategory.Data, false, name, null, null, null, null, List.of(), null, null, null);
+    }
+
+    private static class A {
+    }
+
+    private static class B {
+    }
+
+}
@@ -5,6 +5,7 @@ import cz.habarta.typescript.generator.TsType.IndexedArrayType;
 import cz.habarta.typescript.generator.TsType.ObjectType;
 import cz.habarta.typescript.generator.TsType.UnionType;
 import cz.habarta.typescript.generator.compiler.Symbol;
+import cz.habarta.typescript.generator.compiler.TsTypeInterner;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -14,6 +15,7 @@ import static cz.habarta.typescript.generator.TsType.Number;
 import static cz.habarta.typescript.generator.TsType.String;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class TsTypeTest {
     @Test
@@ -32,6 +34,59 @@ public class TsTypeTest {
         assertNotEquals(new TsType.ReferenceType(new Symbol("Foo")), null);
     }
 
+    @Test
+    public void testStructuralEquals() {
+        final TsType a = new UnionType(Arrays.asList(String, TsType.Null, new BasicArrayType(new TsType.ReferenceType(new Symbol("Foo")))));
+        final TsType b = new UnionType(Arrays.asList(String, TsType.Null, new BasicArrayType(new TsType.ReferenceType(new Symbol("Foo")))));
+        final TsType c = new UnionType(Arrays.asList(String, TsType.Null, new BasicArrayType(new TsType.ReferenceType(new Symbol("Bar")))));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, c);
+        assertNotEquals(new TsType.BasicType("T"), new TsType.GenericVariableType("T"));
+        assertEquals(new TsType.NumberLiteralType(1), new TsType.NumberLiteralType(1L));
+        assertEquals(
+                new ObjectType(new TsProperty("a", String), new TsProperty("b", new TsType.OptionalType(Number))),
+                new ObjectType(new TsProperty("a", String), new TsProperty("b", new TsType.OptionalType(Number))));
+        assertNotEquals(
+                new ObjectType(new TsProperty("a", String)),
+                new ObjectType(new TsProperty("b", String)));
+    }
+
+    @Test
+    public void testHashCodeAfterSymbolResolution() {
+        final Symbol symbol = new Symbol("$Foo$");
+        final TsType type = new BasicArrayType(new TsType.ReferenceType(symbol));
+        final int unresolvedHashCode = type.hashCode();
+        symbol.setFullName(null, "Foo");
+        final TsType resolved = new BasicArrayType(new TsType.ReferenceType(new Symbol("Foo")));
+        assertNotEquals(unresolvedHashCode, type.hashCode());
+        assertEquals(resolved.hashCode(), type.hashCode());
+        assertEquals(resolved, type);
+    }
+
+    @Test
+    public void testInterner() {
+        final TsTypeInterner interner = new TsTypeInterner();
+        final TsType first = interner.intern(new UnionType(String, TsType.Null));
+        final TsType second = interner.intern(new UnionType(String, TsType.Null));
+        assertSame(first, second);
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void testComposedTransformer() {
+        final TsType.Transformer arrays = (context, tsType) -> tsType instanceof BasicArrayType basicArrayType
+                ? new TsType.GenericBasicType("Array", basicArrayType.elementType)
+                : tsType;
+        final TsType.Transformer numbers = (context, tsType) -> tsType == Number ? TsType.String : tsType;
+        final TsType type = new IndexedArrayType(String, new BasicArrayType(new UnionType(Number, TsType.Null)));
+        final TsType separately = TsType.transformTsType(new TsType.Context(),
+                TsType.transformTsType(new TsType.Context(), type, arrays), numbers);
+        final TsType fused = TsType.transformTsType(new TsType.Context(), type, TsType.Transformer.compose(List.of(arrays, numbers)));
+        assertEquals(separately, fused);
+        assertEquals("{ [index: string]: Array<string | null> }", fused.toString());
+    }
+
     @Test
     public void testTypeParentheses() {
         final Settings settings = TestUtils.settings();
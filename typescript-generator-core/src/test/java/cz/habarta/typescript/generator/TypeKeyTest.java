@@ -0,0 +1,74 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.type.JGenericArrayType;
+import cz.habarta.typescript.generator.type.JParameterizedType;
+import cz.habarta.typescript.generator.type.JTypeVariable;
+import cz.habarta.typescript.generator.type.JTypeWithNullability;
+import cz.habarta.typescript.generator.type.JUnionType;
+import cz.habarta.typescript.generator.type.JWildcardType;
+import cz.habarta.typescript.generator.type.TypeKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TypeKeyTest {
+
+    @Test
+    public void testJdkAndCustomParameterizedTypes() throws Exception {
+        final Type jdkType = Bean.class.getField("list").getGenericType();
+        final Type customType = new JParameterizedType(List.class, new Type[] { String.class }, null);
+        Assertions.assertEquals(TypeKey.of(jdkType), TypeKey.of(customType));
+        Assertions.assertEquals(TypeKey.of(jdkType).hashCode(), TypeKey.of(customType).hashCode());
+        Assertions.assertNotEquals(TypeKey.of(jdkType), TypeKey.of(List.class));
+    }
+
+    @Test
+    public void testNestedTypes() throws Exception {
+        final Type jdkType = Bean.class.getField("map").getGenericType();
+        final Type customType = new JParameterizedType(Map.class, new Type[] {
+            String.class,
+            new JParameterizedType(List.class, new Type[] { new JWildcardType(new Type[] { Number.class }, null) }, null),
+        }, null);
+        Assertions.assertEquals(TypeKey.of(jdkType), TypeKey.of(customType));
+        Assertions.assertEquals(TypeKey.of(Bean.class.getField("array").getGenericType()),
+                TypeKey.of(new JGenericArrayType(new JTypeVariable<>(Bean.class, "T"))));
+    }
+
+    @Test
+    public void testTypeVariables() throws Exception {
+        final Type jdkType = Bean.class.getTypeParameters()[0];
+        Assertions.assertEquals(TypeKey.of(jdkType), TypeKey.of(new JTypeVariable<>(Bean.class, "T")));
+        Assertions.assertNotEquals(TypeKey.of(jdkType), TypeKey.of(new JTypeVariable<>(Bean.class, "U")));
+    }
+
+    @Test
+    public void testUnionAndNullability() {
+        Assertions.assertEquals(
+                TypeKey.of(new JUnionType(String.class, new JTypeWithNullability(Integer.class, true))),
+                TypeKey.of(new JUnionType(String.class, new JTypeWithNullability(Integer.class, true))));
+        Assertions.assertNotEquals(
+                TypeKey.of(new JTypeWithNullability(Integer.class, true)),
+                TypeKey.of(new JTypeWithNullability(Integer.class, false)));
+    }
+
+    @Test
+    public void testHashSetMembership() throws Exception {
+        final Set<TypeKey> keys = new HashSet<>();
+        Assertions.assertTrue(keys.add(TypeKey.of(Bean.class.getField("list").getGenericType())));
+        Assertions.assertFalse(keys.add(TypeKey.of(new JParameterizedType(List.class, new Type[] { String.class }, null))));
+        Assertions.assertTrue(keys.add(TypeKey.of(String.class)));
+        Assertions.assertEquals(2, keys.size());
+    }
+
+    static class Bean<T> {
+        public List<String> list;
+        public Map<String, List<? extends Number>> map;
+        public T[] array;
+    }
+
+}
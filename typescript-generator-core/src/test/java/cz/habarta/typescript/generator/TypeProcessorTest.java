@@ -0,0 +1,79 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.compiler.SymbolTable;
+import cz.habarta.typescript.generator.util.Utils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TypeProcessorTest {
+
+    @Test
+    public void testChainSkipsProcessorsWhichCannotProcessRawClass() throws Exception {
+        final List<String> calls = new ArrayList<>();
+        final TypeProcessor.Chain chain = new TypeProcessor.Chain(
+                new RecordingProcessor("strings", String.class, calls),
+                new RecordingProcessor("lists", List.class, calls),
+                (javaType, context) -> {
+                    calls.add("any");
+                    return null;
+                });
+        final TypeProcessor.Context context = new TypeProcessor.Context(new SymbolTable(TestUtils.settings()), chain, null);
+
+        Assertions.assertEquals("lists", chain.processType(Bean.class.getField("list").getGenericType(), context).getTsType().toString());
+        Assertions.assertEquals(List.of("lists"), calls);
+        calls.clear();
+
+        Assertions.assertNull(chain.processType(Bean.class, context));
+        Assertions.assertEquals(List.of("any"), calls);
+        calls.clear();
+
+        Assertions.assertNull(chain.processType(Bean.class.getField("array").getGenericType(), context));
+        Assertions.assertEquals(List.of("strings", "lists", "any"), calls);
+
+        Assertions.assertTrue(chain.canProcess(Bean.class));
+        Assertions.assertFalse(new TypeProcessor.Chain(new RecordingProcessor("strings", String.class, calls)).canProcess(Bean.class));
+    }
+
+    @Test
+    public void testCustomMappingProcessorDeclaresMappedClasses() {
+        final Settings settings = TestUtils.settings();
+        settings.customTypeMappings.put("java.lang.Long", "string");
+        final TypeProcessor processor = new CustomMappingTypeProcessor(settings.getValidatedCustomTypeMappings());
+        Assertions.assertTrue(processor.canProcess(Long.class));
+        Assertions.assertFalse(processor.canProcess(Integer.class));
+        Assertions.assertFalse(processor.canProcess(Bean.class));
+    }
+
+    private static class RecordingProcessor implements TypeProcessor {
+        private final String name;
+        private final Class<?> handledClass;
+        private final List<String> calls;
+
+        RecordingProcessor(String name, Class<?> handledClass, List<String> calls) {
+            this.name = name;
+            this.handledClass = handledClass;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean canProcess(Class<?> rawClass) {
+            return rawClass == handledClass;
+        }
+
+        @Override
+        public Result processType(Type javaType, Context context) {
+            calls.add(name);
+            return Utils.getRawClassOrNull(javaType) == handledClass ? new Result(new TsType.VerbatimType(name)) : null;
+        }
+    }
+
+    static class Bean<T> {
+        public List<String> list;
+        public T[] array;
+    }
+
+}
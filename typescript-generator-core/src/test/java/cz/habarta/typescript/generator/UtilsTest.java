@@ -1,12 +1,14 @@
 
 package cz.habarta.typescript.generator;
 
+import cz.habarta.typescript.generator.util.ClassNameGlobMatcher;
 import cz.habarta.typescript.generator.util.Utils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.util.*;
+import java.util.regex.Pattern;
 
 public class UtilsTest {
     @Test
@@ -22,6 +24,28 @@ public class UtilsTest {
                 Utils.globsToRegexps(List.of("cz.habarta.test.*")).get(0).toString());
     }
 
+    @Test
+    public void testGlobMatcher() {
+        final List<String> globs = List.of("cz.habarta.test.*", "**Json", "cz.habarta.*.*$*", "com.example.Exact", "org.**.dto.*Dto");
+        final List<String> classNames = List.of(
+                "cz.habarta.test.Json", "cz.habarta.test.aaa.BBB", "cz.habarta.test.CCC$Inner", "cz.habarta.ddd.CCC$Inner",
+                "cz.habarta.CCC$Inner", "com.example.Exact", "com.example.Exact2", "com.example.ExactJson", "com.example.Json$Nested",
+                "org.app.dto.UserDto", "org.app.module.dto.UserDto", "org.app.dto.sub.UserDto", "org.dto.UserDto", "", "Json");
+        final ClassNameGlobMatcher matcher = ClassNameGlobMatcher.compile(globs);
+        final List<Pattern> regexps = Utils.globsToRegexps(globs);
+        for (String className : classNames) {
+            Assertions.assertEquals(Utils.classNameMatches(className, regexps), matcher.test(className), className);
+        }
+        Assertions.assertFalse(ClassNameGlobMatcher.compile(List.of()).test("com.example.Exact"));
+    }
+
+    @Test
+    public void testGlobPackages() {
+        Assertions.assertEquals(List.of("cz.habarta.test", "cz", "com.example"),
+                ClassNameGlobMatcher.getPackages(List.of("cz.habarta.test.*", "cz.hab*.Json", "com.example.Exact", "cz.habarta.test.**Dto")));
+        Assertions.assertNull(ClassNameGlobMatcher.getPackages(List.of("cz.habarta.test.*", "**Json")));
+    }
+
     @Test
     public void testPathJoin() {
         Assertions.assertEquals("controller", Utils.joinPath("/controller", null));
@@ -0,0 +1,99 @@
+package cz.habarta.typescript.generator.benchmark;
+
+import cz.habarta.typescript.generator.Logger;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Minimal timing harness for benchmark tests (run them using <code>mvn test -Pbenchmark</code>).
+ * Sizes and iteration counts can be overridden using system properties.
+ */
+public final class Benchmark {
+
+    private Benchmark() {
+    }
+
+    public static int[] sizes(String property, int... defaultSizes) {
+        final String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return defaultSizes;
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    public static int iterations() {
+        return Integer.getInteger("benchmark.iterations", 5);
+    }
+
+    public static int warmups() {
+        return Integer.getInteger("benchmark.warmups", 2);
+    }
+
+    /**
+     * @return median duration in milliseconds
+     */
+    public static double measure(String label, Runnable runnable) {
+        return measure(label, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return median duration in milliseconds
+     */
+    public static <T> double measure(String label, Supplier<T> supplier) {
+        final Logger originalLogger = TypeScriptGenerator.getLogger();
+        TypeScriptGenerator.setLogger(new Logger(Logger.Level.Warning));
+        try {
+            for (int i = 0; i < warmups(); i++) {
+                supplier.get();
+            }
+            final double[] durations = new double[iterations()];
+            for (int i = 0; i < durations.length; i++) {
+                final long start = System.nanoTime();
+                supplier.get();
+                durations[i] = (System.nanoTime() - start) / 1_000_000.0;
+            }
+            Arrays.sort(durations);
+            final double median = durations[durations.length / 2];
+            report(label, median, durations[0], durations[durations.length - 1]);
+            return median;
+        } finally {
+            TypeScriptGenerator.setLogger(originalLogger);
+        }
+    }
+
+    public static void report(String label, double medianMillis, double minMillis, double maxMillis) {
+        System.out.println(String.format("[benchmark] %-60s median %10.2f ms  (min %10.2f ms, max %10.2f ms)",
+                label, medianMillis, minMillis, maxMillis));
+    }
+
+    public static void report(String label, String value) {
+        System.out.println(String.format("[benchmark] %-60s %s", label, value));
+    }
+
+    /**
+     * @return number of bytes allocated by current thread while running passed code
+     */
+    public static long allocatedBytes(Runnable runnable) {
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final Logger originalLogger = TypeScriptGenerator.getLogger();
+        TypeScriptGenerator.setLogger(new Logger(Logger.Level.Warning));
+        try {
+            final long start = threadBean.getThreadAllocatedBytes(threadId);
+            runnable.run();
+            return threadBean.getThreadAllocatedBytes(threadId) - start;
+        } finally {
+            TypeScriptGenerator.setLogger(originalLogger);
+        }
+    }
+
+}
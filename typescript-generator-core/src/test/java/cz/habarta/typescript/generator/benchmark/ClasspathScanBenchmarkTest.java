@@ -0,0 +1,89 @@
+package cz.habarta.typescript.generator.benchmark;
+
+import cz.habarta.typescript.generator.DummyBean;
+import cz.habarta.typescript.generator.Input;
+import cz.habarta.typescript.generator.util.ClassNameGlobMatcher;
+import cz.habarta.typescript.generator.util.Utils;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Tag("benchmark")
+public class ClasspathScanBenchmarkTest {
+
+    @TempDir
+    File cacheDirectory;
+
+    @Test
+    public void testScanCache() {
+        Benchmark.measure("Input.from class pattern, full classpath scan", () -> {
+            Assertions.assertEquals(1, Input.from(parameters(null)).getSourceTypes().size());
+        });
+        Input.from(parameters(cacheDirectory));
+        Benchmark.measure("Input.from class pattern, classpath scan cache", () -> {
+            Assertions.assertEquals(1, Input.from(parameters(cacheDirectory)).getSourceTypes().size());
+        });
+    }
+
+    @Test
+    public void testGlobMatching() {
+        final List<String> classNames;
+        try (ScanResult scanResult = new ClassGraph().enableClassInfo().ignoreClassVisibility().scan()) {
+            classNames = scanResult.getAllClasses().getNames();
+        }
+        final int count = Benchmark.sizes("benchmark.scan.globs", 200)[0];
+        final List<String> globs = IntStream.range(0, count)
+                .mapToObj(i -> i % 2 == 0 ? "com.example.module" + i + ".**Dto" : "org.example.*.api" + i + ".*")
+                .collect(Collectors.toList());
+        final List<Pattern> regexps = Utils.globsToRegexps(globs);
+        final String label = "match " + classNames.size() + " class names against " + count + " globs";
+        Benchmark.measure(label + ", regexps", () -> {
+            classNames.forEach(className -> Utils.classNameMatches(className, regexps));
+        });
+        Benchmark.measure(label + ", compiled matcher", () -> {
+            final ClassNameGlobMatcher matcher = ClassNameGlobMatcher.compile(globs);
+            classNames.forEach(matcher::test);
+        });
+    }
+
+    @Test
+    public void testLoadMatchedClasses() throws Exception {
+        // fresh class loader in each run so that classes are really loaded
+        final URL[] guavaJars = {
+            com.google.common.collect.ImmutableList.class.getProtectionDomain().getCodeSource().getLocation(),
+            com.google.common.util.concurrent.internal.InternalFutureFailureAccess.class.getProtectionDomain().getCodeSource().getLocation(),
+        };
+        Benchmark.measure("Input.from all Guava classes excluding nested classes", () -> {
+            try (URLClassLoader classLoader = new URLClassLoader(guavaJars, null)) {
+                final Input.Parameters parameters = new Input.Parameters();
+                parameters.classNamePatterns = List.of("com.google.common.**");
+                parameters.isClassNameExcluded = className -> className.contains("$");
+                parameters.classLoader = classLoader;
+                Assertions.assertTrue(Input.from(parameters).getSourceTypes().size() > 100);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static Input.Parameters parameters(File scanningCacheDirectory) {
+        final Input.Parameters parameters = new Input.Parameters();
+        parameters.classNamePatterns = List.of(DummyBean.class.getName());
+        parameters.scanningCacheDirectory = scanningCacheDirectory;
+        return parameters;
+    }
+
+}
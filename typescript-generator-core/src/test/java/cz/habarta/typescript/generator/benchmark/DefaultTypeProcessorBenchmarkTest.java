@@ -0,0 +1,71 @@
+package cz.habarta.typescript.generator.benchmark;
+
+import cz.habarta.typescript.generator.DefaultTypeProcessor;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TestUtils;
+import cz.habarta.typescript.generator.TypeProcessor;
+import cz.habarta.typescript.generator.compiler.SymbolTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Tag("benchmark")
+public class DefaultTypeProcessorBenchmarkTest {
+
+    @Test
+    public void testProcessTypeMix() {
+        final Settings settings = TestUtils.settings();
+        settings.additionalDataLibraries = List.of("joda", "vavr");
+        final List<Type> types = new ArrayList<>();
+        for (Field field : Mix.class.getFields()) {
+            types.add(field.getGenericType());
+        }
+        types.addAll(SyntheticClasses.beans(Benchmark.sizes("benchmark.typeprocessor.userclasses", 200)[0]));
+        for (int rounds : Benchmark.sizes("benchmark.typeprocessor.rounds", 100, 1_000)) {
+            final long lookups = (long) rounds * types.size();
+            final double millis = Benchmark.measure("DefaultTypeProcessor " + lookups + " lookups", () -> {
+                final DefaultTypeProcessor processor = new DefaultTypeProcessor(settings.getLoadedDataLibraries());
+                final TypeProcessor.Context context = new TypeProcessor.Context(new SymbolTable(settings), processor, null);
+                for (int i = 0; i < rounds; i++) {
+                    for (Type type : types) {
+                        Assertions.assertNotNull(processor.processType(type, context));
+                    }
+                }
+            });
+            Benchmark.report("DefaultTypeProcessor per lookup", String.format("%.1f ns", millis * 1_000_000 / lookups));
+        }
+    }
+
+    public static class Mix {
+        public String string;
+        public int primitive;
+        public Long number;
+        public BigDecimal decimal;
+        public UUID uuid;
+        public LocalDate date;
+        public List<String> list;
+        public Set<Integer> set;
+        public Map<String, List<Long>> map;
+        public Optional<Boolean> optional;
+        public byte[] bytes;
+        public org.joda.time.DateTime jodaDateTime;
+        public org.joda.time.LocalDate jodaLocalDate;
+        public org.joda.time.Duration jodaDuration;
+        public io.vavr.collection.List<String> vavrList;
+        public io.vavr.collection.Map<String, Integer> vavrMap;
+        public io.vavr.control.Option<Long> vavrOption;
+        public io.vavr.Lazy<String> vavrLazy;
+    }
+
+}
@@ -0,0 +1,93 @@
+package cz.habarta.typescript.generator.benchmark;
+
+import cz.habarta.typescript.generator.Input;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TestUtils;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.parser.Javadoc;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.xmldoclet.Field;
+import cz.habarta.typescript.generator.xmldoclet.Package;
+import cz.habarta.typescript.generator.xmldoclet.Root;
+import jakarta.xml.bind.JAXB;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+@Tag("benchmark")
+public class JavadocBenchmarkTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testEnrichModel() {
+        final int size = Benchmark.sizes("benchmark.javadoc.classes", 10_000)[0];
+        final List<Class<?>> classes = SyntheticClasses.beans(size);
+        final File javadocXmlFile = tempDir.resolve("javadoc.xml").toFile();
+        JAXB.marshal(createJavadoc(classes), javadocXmlFile);
+
+        final Model model = new TypeScriptGenerator(TestUtils.settings()).getModelParser()
+                .parseModel(Input.from(classes.get(0)).getSourceTypes());
+        final Settings settings = TestUtils.settings();
+        settings.javadocXmlFiles = List.of(javadocXmlFile);
+        final Javadoc javadoc = new Javadoc(settings);
+        Benchmark.measure("Javadoc.enrichModel " + size + " documented classes", () -> {
+            final Model enrichedModel = javadoc.enrichModel(model);
+            Assertions.assertEquals(List.of("Class " + classes.get(0).getSimpleName()),
+                    enrichedModel.getBean(classes.get(0)).getComments());
+        });
+    }
+
+    @Test
+    public void testLoadAndEnrichModel() {
+        final int size = Benchmark.sizes("benchmark.javadoc.classes", 10_000)[0];
+        final List<Class<?>> classes = SyntheticClasses.beans(size);
+        final File javadocXmlFile = tempDir.resolve("javadoc.xml").toFile();
+        JAXB.marshal(createJavadoc(classes), javadocXmlFile);
+
+        // model contains only small part of documented classes
+        final Model fullModel = new TypeScriptGenerator(TestUtils.settings()).getModelParser()
+                .parseModel(Input.from(classes.get(0)).getSourceTypes());
+        final Model model = new Model(fullModel.getBeans().subList(0, Math.min(100, size)), List.of(), List.of());
+        final Settings settings = TestUtils.settings();
+        settings.javadocXmlFiles = List.of(javadocXmlFile);
+        final String label = "Javadoc load + enrichModel " + model.getBeans().size() + " of " + size + " documented classes";
+        final Runnable loadAndEnrich = () -> {
+            final Model enrichedModel = new Javadoc(settings).enrichModel(model);
+            Assertions.assertEquals(List.of("Class " + classes.get(0).getSimpleName()),
+                    enrichedModel.getBean(classes.get(0)).getComments());
+        };
+        Benchmark.measure(label, loadAndEnrich);
+        final long bytes = Benchmark.allocatedBytes(loadAndEnrich);
+        Benchmark.report(label + " allocated", String.format("%.1f MB", bytes / 1024.0 / 1024.0));
+    }
+
+    private static Root createJavadoc(List<Class<?>> classes) {
+        final Package dPackage = new Package();
+        dPackage.setName(SyntheticClasses.PACKAGE);
+        for (Class<?> cls : classes) {
+            final cz.habarta.typescript.generator.xmldoclet.Class dClass = new cz.habarta.typescript.generator.xmldoclet.Class();
+            dClass.setName(cls.getSimpleName());
+            dClass.setQualified(cls.getName());
+            dClass.setComment("Class " + cls.getSimpleName());
+            for (java.lang.reflect.Field field : cls.getFields()) {
+                final Field dField = new Field();
+                dField.setName(field.getName());
+                dField.setQualified(cls.getName() + "." + field.getName());
+                dField.setComment("Field " + field.getName());
+                dClass.getField().add(dField);
+            }
+            dPackage.getClazz().add(dClass);
+        }
+        final Root dRoot = new Root();
+        dRoot.getPackage().add(dPackage);
+        return dRoot;
+    }
+
+}
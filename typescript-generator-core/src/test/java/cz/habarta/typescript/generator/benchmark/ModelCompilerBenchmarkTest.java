@@ -0,0 +1,207 @@
+package cz.habarta.typescript.generator.benchmark;
+
+import cz.habarta.typescript.generator.ClassMapping;
+import cz.habarta.typescript.generator.DateMapping;
+import cz.habarta.typescript.generator.EnumMapping;
+import cz.habarta.typescript.generator.Input;
+import cz.habarta.typescript.generator.MapMapping;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TestUtils;
+import cz.habarta.typescript.generator.TsType;
+import cz.habarta.typescript.generator.TypeScriptFileType;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.compiler.Symbol;
+import cz.habarta.typescript.generator.compiler.SymbolTable;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.parser.Model;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+@Tag("benchmark")
+public class ModelCompilerBenchmarkTest {
+
+    @Test
+    public void testSymbolTableLookups() {
+        for (int size : Benchmark.sizes("benchmark.compiler.symbols", 20_000)) {
+            final List<Class<?>> classes = SyntheticClasses.beans(size);
+            Benchmark.measure("SymbolTable " + size + " symbols, getSymbolClass + addSuffixToSymbol", () -> {
+                final SymbolTable symbolTable = new SymbolTable(TestUtils.settings());
+                final List<Symbol> symbols = new ArrayList<>();
+                for (Class<?> cls : classes) {
+                    symbols.add(symbolTable.getSymbol(cls));
+                }
+                for (int i = 0; i < symbols.size(); i++) {
+                    Assertions.assertSame(classes.get(i), symbolTable.getSymbolClass(symbols.get(i)));
+                    symbolTable.addSuffixToSymbol(symbols.get(i), "Client");
+                }
+            });
+        }
+    }
+
+    @Test
+    public void testCompileHierarchy() {
+        for (int size : Benchmark.sizes("benchmark.compiler.symbols", 20_000)) {
+            final List<Class<?>> classes = hierarchy(size);
+            final Settings settings = TestUtils.settings();
+            final Model model = new TypeScriptGenerator(settings).getModelParser()
+                    .parseModel(Input.from(classes.toArray(new Class<?>[0])).getSourceTypes());
+            Benchmark.measure("javaToTypeScript " + size + " classes in hierarchy", () -> {
+                final TsModel tsModel = new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model);
+                Assertions.assertEquals(size, tsModel.getBeans().size());
+            });
+        }
+    }
+
+    @Test
+    public void testCompileScaling() {
+        for (int size : Benchmark.sizes("benchmark.compiler.scaling", 5_000, 10_000, 20_000)) {
+            final List<Class<?>> classes = chains(size, 10);
+            final Settings settings = TestUtils.settings();
+            final Model model = new TypeScriptGenerator(settings).getModelParser()
+                    .parseModel(Input.from(classes.toArray(new Class<?>[0])).getSourceTypes());
+            final double millis = Benchmark.measure("javaToTypeScript " + size + " classes in chains", () -> {
+                new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model);
+            });
+            Benchmark.report("javaToTypeScript per class", String.format("%.1f us", millis * 1_000 / size));
+        }
+    }
+
+    @Test
+    public void testCompileInheritedProperties() {
+        final int size = Benchmark.sizes("benchmark.compiler.inheritance", 3_000)[0];
+        final int interfaces = 20;
+        // interfaces form chains of 5, classes form tree with 5 levels below the root, each class implements one interface
+        final List<Class<?>> classes = SyntheticClasses.compile(size, "W", i -> i < interfaces
+                ? String.format(
+                        "public interface W%1$d%2$s {%n"
+                        + "    default String getInterfaceProperty%1$d() { return null; }%n"
+                        + "}%n",
+                        i, i % 5 != 0 ? " extends W" + (i - 1) : "")
+                : String.format(
+                        "public class W%1$d%2$s implements W%3$d {%n"
+                        + "    public String name%1$d;%n"
+                        + "    public int value%1$d;%n"
+                        + "    public java.util.List<String> tags%1$d;%n"
+                        + "}%n",
+                        i, i > interfaces ? " extends W" + (interfaces + (i - interfaces - 1) / 5) : "", i % interfaces));
+        final Settings settings = TestUtils.settings();
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.mapClasses = ClassMapping.asClasses;
+        settings.generateConstructors = true;
+        final Model model = new TypeScriptGenerator(settings).getModelParser()
+                .parseModel(Input.from(classes.toArray(new Class<?>[0])).getSourceTypes());
+        Benchmark.measure("javaToTypeScript " + size + " classes in 5-level hierarchy (classes, constructors)", () -> {
+            final TsModel tsModel = new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model);
+            Assertions.assertEquals(size, tsModel.getBeans().size());
+        });
+    }
+
+    @Test
+    public void testTsTypeHashingAndInterning() {
+        final int size = Benchmark.sizes("benchmark.compiler.tstypes", 20_000)[0];
+        final List<Class<?>> classes = SyntheticClasses.compile(size, "T", i -> String.format(
+                "public class T%1$d {%n"
+                + "    public java.util.List<String> tags;%n"
+                + "    public java.util.Map<String, java.util.List<Long>> counts;%n"
+                + "    public java.util.Optional<T%2$d> next;%n"
+                + "    public java.util.List<T%3$d> items;%n"
+                + "}%n",
+                i, (i + 1) % size, (i * 7 + 3) % size));
+        for (boolean intern : new boolean[] {false, true}) {
+            final Settings settings = TestUtils.settings();
+            settings.internTsTypes = intern;
+            final Model model = new TypeScriptGenerator(settings).getModelParser()
+                    .parseModel(Input.from(classes.toArray(new Class<?>[0])).getSourceTypes());
+            final String label = "javaToTypeScript " + size + " classes" + (intern ? ", interned types" : "");
+            Benchmark.measure(label, () -> new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model));
+            final long bytes = Benchmark.allocatedBytes(() -> new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model));
+            Benchmark.report(label + " allocated", String.format("%.1f MB", bytes / 1024.0 / 1024.0));
+            final TsModel tsModel = new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model);
+            final Set<TsType> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+            tsModel.getBeans().forEach(bean -> bean.getProperties().forEach(property -> distinct.add(property.getTsType())));
+            Benchmark.report(label + " distinct property type instances", String.valueOf(distinct.size()));
+        }
+    }
+
+    @Test
+    public void testFusedTypeTransformations() {
+        final int size = Benchmark.sizes("benchmark.compiler.transformations", 20_000)[0];
+        final List<Class<?>> classes = SyntheticClasses.compile(size, "F", i -> String.format(
+                "public class F%1$d {%n"
+                + "    public java.util.Date created;%n"
+                + "    public java.util.Map<String, java.util.List<java.time.Instant>> history;%n"
+                + "    public java.util.Map<java.util.concurrent.TimeUnit, F%2$d> byUnit;%n"
+                + "    public java.util.List<F%3$d> items;%n"
+                + "}%n",
+                i, (i + 1) % size, (i * 7 + 3) % size));
+        final Settings settings = TestUtils.settings();
+        settings.mapMap = MapMapping.asRecord;
+        settings.mapDate = DateMapping.asString;
+        settings.mapEnum = EnumMapping.asInlineUnion;
+        final Model model = new TypeScriptGenerator(settings).getModelParser()
+                .parseModel(Input.from(classes.get(0)).getSourceTypes());
+        Benchmark.measure("javaToTypeScript " + size + " classes (maps, dates, inline enums)", () -> {
+            final TsModel tsModel = new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model);
+            Assertions.assertEquals(size, tsModel.getBeans().size());
+        });
+
+        // per-phase comparison of separate and fused traversals
+        final List<TsType> types = new ArrayList<>();
+        new TypeScriptGenerator(TestUtils.settings()).getModelCompiler().javaToTypeScript(model).getBeans()
+                .forEach(bean -> bean.getProperties().forEach(property -> types.add(property.getTsType())));
+        final List<TsType.Transformer> transformers = List.of(
+                (context, tsType) -> tsType instanceof TsType.IndexedArrayType indexedArrayType
+                        ? new TsType.GenericBasicType("Record", indexedArrayType.indexType, indexedArrayType.elementType)
+                        : tsType,
+                (context, tsType) -> tsType == TsType.Date ? TsType.String : tsType,
+                (context, tsType) -> tsType instanceof TsType.NullableType nullableType
+                        ? new TsType.UnionType(nullableType.type, TsType.Null)
+                        : tsType);
+        Benchmark.measure("transform " + types.size() + " types, " + transformers.size() + " separate traversals", () -> {
+            for (TsType type : types) {
+                TsType result = type;
+                for (TsType.Transformer transformer : transformers) {
+                    result = TsType.transformTsType(new TsType.Context(), result, transformer);
+                }
+            }
+        });
+        final TsType.Transformer fused = TsType.Transformer.compose(transformers);
+        Benchmark.measure("transform " + types.size() + " types, fused traversal", () -> {
+            for (TsType type : types) {
+                TsType.transformTsType(new TsType.Context(), type, fused);
+            }
+        });
+    }
+
+    /**
+     * Inheritance chains of given depth, parent of each class is declared (and parsed) after the class.
+     */
+    static List<Class<?>> chains(int count, int depth) {
+        return SyntheticClasses.compile(count, "D", i -> String.format(
+                "public class D%1$d%2$s {%n"
+                + "    public String name%1$d;%n"
+                + "    public java.util.List<D%3$d> items%1$d;%n"
+                + "}%n",
+                i, (i + 1) % depth != 0 && i + 1 < count ? " extends D" + (i + 1) : "", (i * 7 + 3) % count));
+    }
+
+    /**
+     * Classes forming binary tree of subclasses, each class also references its sibling.
+     */
+    static List<Class<?>> hierarchy(int count) {
+        return SyntheticClasses.compile(count, "H", i -> String.format(
+                "public class H%1$d%2$s {%n"
+                + "    public String name%1$d;%n"
+                + "    public H%3$d sibling%1$d;%n"
+                + "}%n",
+                i, i > 0 ? " extends H" + ((i - 1) / 2) : "", i % 2 == 0 ? Math.max(i - 1, 0) : i + 1 < count ? i + 1 : i));
+    }
+
+}
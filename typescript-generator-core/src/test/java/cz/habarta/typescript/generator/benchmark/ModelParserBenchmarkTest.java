@@ -0,0 +1,183 @@
+package cz.habarta.typescript.generator.benchmark;
+
+import cz.habarta.typescript.generator.Input;
+import cz.habarta.typescript.generator.Jackson2ConfigurationResolved;
+import cz.habarta.typescript.generator.JsonLibrary;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TestUtils;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.parser.DeprecationEnricher;
+import cz.habarta.typescript.generator.parser.Javadoc;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.ModelEnricherPipeline;
+import cz.habarta.typescript.generator.parser.Swagger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Tag("benchmark")
+public class ModelParserBenchmarkTest {
+
+    @Test
+    public void testParseTimeScaling() {
+        for (int size : Benchmark.sizes("benchmark.parser.sizes", 1_000, 5_000, 10_000, 50_000)) {
+            final List<Class<?>> classes = SyntheticClasses.beans(size);
+            final Settings settings = TestUtils.settings();
+            final double millis = Benchmark.measure("parseModel " + size + " classes", () -> {
+                final Model model = new TypeScriptGenerator(settings).getModelParser()
+                        .parseModel(Input.from(classes.get(0)).getSourceTypes());
+                Assertions.assertEquals(size, model.getBeans().size());
+            });
+            Benchmark.report("parseModel " + size + " classes per class", String.format("%.4f ms", millis / size));
+        }
+    }
+
+    @Test
+    public void testModelEnrichment() {
+        final int size = Benchmark.sizes("benchmark.parser.enrichment.size", 20_000)[0];
+        final List<Class<?>> classes = SyntheticClasses.compile(size, "E", i -> String.format(
+                "%3$spublic class E%1$d {%n"
+                + "    public String name;%n"
+                + "    @Deprecated public int value;%n"
+                + "    public java.util.List<String> tags;%n"
+                + "    public E%2$d next;%n"
+                + "}%n",
+                i, (i + 1) % size, i % 10 == 0 ? "@Deprecated " : ""));
+        final Settings settings = TestUtils.settings();
+        final Model model = new TypeScriptGenerator(settings).getModelParser()
+                .parseModel(Input.from(classes.get(0)).getSourceTypes());
+        final Javadoc javadoc = new Javadoc(settings);
+        final DeprecationEnricher deprecationEnricher = new DeprecationEnricher();
+        Benchmark.measure("enrich " + size + " classes, Swagger + Javadoc + deprecation, separate passes", () -> {
+            deprecationEnricher.enrichModel(javadoc.enrichModel(Swagger.enrichModel(model)));
+        });
+        final ModelEnricherPipeline pipeline = new ModelEnricherPipeline(List.of(Swagger.getModelEnricher(), javadoc, deprecationEnricher));
+        Benchmark.measure("enrich " + size + " classes, Swagger + Javadoc + deprecation, fused pass", () -> {
+            final Model enrichedModel = pipeline.enrichModel(model);
+            Assertions.assertEquals(1, enrichedModel.getBean(classes.get(0)).getProperties().stream()
+                    .filter(property -> property.getName().equals("value")).findFirst().orElseThrow().getComments().size());
+        });
+    }
+
+    @Test
+    public void testJackson2BeanIntrospection() {
+        final int size = Benchmark.sizes("benchmark.parser.introspection.size", 5_000)[0];
+        final List<Class<?>> classes = SyntheticClasses.beans(size);
+        for (boolean withoutSerializers : new boolean[] {false, true}) {
+            final Settings settings = TestUtils.settings();
+            settings.jackson2Configuration = new Jackson2ConfigurationResolved();
+            settings.jackson2Configuration.introspectPropertiesWithoutSerializers = withoutSerializers;
+            final String label = "parseModel " + size + " classes, " + (withoutSerializers ? "BeanDescription properties" : "serializer properties");
+            Benchmark.measure(label, () -> {
+                final Model model = new TypeScriptGenerator(settings).getModelParser()
+                        .parseModel(Input.from(classes.get(0)).getSourceTypes());
+                Assertions.assertEquals(size, model.getBeans().size());
+            });
+            Benchmark.report(label + " allocated", String.format("%.1f MB", Benchmark.allocatedBytes(() -> {
+                new TypeScriptGenerator(settings).getModelParser().parseModel(Input.from(classes.get(0)).getSourceTypes());
+            }) / 1e6));
+        }
+    }
+
+    @Test
+    public void testJackson3Parsing() {
+        final int size = Benchmark.sizes("benchmark.parser.jackson3.size", 5_000)[0];
+        final List<Class<?>> classes = SyntheticClasses.beans(size);
+        for (JsonLibrary jsonLibrary : List.of(JsonLibrary.jackson2, JsonLibrary.jackson3)) {
+            final Settings settings = TestUtils.settings();
+            settings.jsonLibrary = jsonLibrary;
+            Benchmark.measure("parseModel " + size + " classes, " + jsonLibrary, () -> {
+                final Model model = new TypeScriptGenerator(settings).getModelParser()
+                        .parseModel(Input.from(classes.get(0)).getSourceTypes());
+                Assertions.assertEquals(size, model.getBeans().size());
+            });
+        }
+    }
+
+    @Test
+    public void testWideBeans() {
+        final int count = Benchmark.sizes("benchmark.parser.wide.count", 50)[0];
+        final int width = Benchmark.sizes("benchmark.parser.wide.width", 400)[0];
+        // fields, read-only getters and write-only setters like in generated entities
+        final List<Class<?>> classes = SyntheticClasses.compile(count, "W", i -> String.format(
+                "public class W%d {%n%s}%n", i, IntStream.range(0, width)
+                        .mapToObj(p -> p % 3 == 0 ? String.format("    public String field%d;%n", p)
+                                : p % 3 == 1 ? String.format("    public int getReadOnly%d() { return 0; }%n", p)
+                                : String.format("    public void setWriteOnly%d(long value) {}%n", p))
+                        .collect(Collectors.joining())));
+        for (JsonLibrary jsonLibrary : List.of(JsonLibrary.jackson2, JsonLibrary.jackson3)) {
+            final Settings settings = TestUtils.settings();
+            settings.jsonLibrary = jsonLibrary;
+            Benchmark.measure("parseModel " + count + " classes with " + width + " properties, " + jsonLibrary, () -> {
+                final Model model = new TypeScriptGenerator(settings).getModelParser()
+                        .parseModel(Input.from(classes.toArray(new Class<?>[0])).getSourceTypes());
+                Assertions.assertEquals(width, model.getBean(classes.get(0)).getProperties().size());
+            });
+        }
+    }
+
+    @Test
+    public void testJsonbSharedBaseClasses() {
+        final int count = Benchmark.sizes("benchmark.parser.jsonb.count", 3_000)[0];
+        final int baseCount = 5;
+        // many DTOs extending a few base classes with annotated fields and getters
+        final List<Class<?>> classes = SyntheticClasses.compile(count, "B", i -> i < baseCount
+                ? String.format("public class B%d {%n%s}%n", i, IntStream.range(0, 30)
+                        .mapToObj(p -> String.format("    @jakarta.json.bind.annotation.JsonbProperty(\"base%1$d\") public String field%1$d;%n"
+                                + "    private int hidden%1$d;%n"
+                                + "    public int getHidden%1$d() { return hidden%1$d; }%n", p))
+                        .collect(Collectors.joining()))
+                : String.format("public class B%d extends B%d {%n"
+                        + "    public String name;%n"
+                        + "    @jakarta.json.bind.annotation.JsonbTransient public String internal;%n"
+                        + "}%n", i, i % baseCount));
+        final Settings settings = TestUtils.settings();
+        settings.jsonLibrary = JsonLibrary.jsonb;
+        Benchmark.measure("parseModel " + count + " JSON-B classes extending " + baseCount + " base classes", () -> {
+            final Model model = new TypeScriptGenerator(settings).getModelParser()
+                    .parseModel(Input.from(classes.toArray(new Class<?>[0])).getSourceTypes());
+            Assertions.assertEquals(count, model.getBeans().size());
+        });
+    }
+
+    @Test
+    public void testDeepGenericHierarchy() {
+        final int count = Benchmark.sizes("benchmark.parser.generic.count", 2_000)[0];
+        // G0<ID> <- G1<ID, U> <- concrete DTOs, each generic base declares 50 properties
+        final List<Class<?>> classes = SyntheticClasses.compile(count, "G", i -> i == 0
+                ? String.format("public class G0<ID> {%n%s}%n", IntStream.range(0, 50)
+                        .mapToObj(p -> String.format("    public ID id%d;%n", p))
+                        .collect(Collectors.joining()))
+                : i == 1
+                ? String.format("public class G1<ID, U> extends G0<ID> {%n%s}%n", IntStream.range(0, 50)
+                        .mapToObj(p -> String.format("    public java.util.List<U> modifiedBy%d;%n", p))
+                        .collect(Collectors.joining()))
+                : String.format("public class G%d extends G1<Long, String> {%n    public String name;%n}%n", i));
+        final Settings settings = TestUtils.settings();
+        Benchmark.measure("parseModel " + count + " classes with 100 inherited generic properties", () -> {
+            final Model model = new TypeScriptGenerator(settings).getModelParser()
+                    .parseModel(Input.from(classes.subList(2, count).toArray(new Class<?>[0])).getSourceTypes());
+            Assertions.assertEquals(count, model.getBeans().size());
+        });
+    }
+
+    @Test
+    public void testParallelParsing() {
+        final int size = Benchmark.sizes("benchmark.parser.parallel.size", 10_000)[0];
+        final List<Class<?>> classes = SyntheticClasses.beans(size);
+        for (int parallelism : Benchmark.sizes("benchmark.parser.parallelism", 1, 4, 16)) {
+            final Settings settings = TestUtils.settings();
+            settings.parserParallelism = parallelism;
+            Benchmark.measure("parseModel " + size + " classes, " + parallelism + " workers", () -> {
+                final Model model = new TypeScriptGenerator(settings).getModelParser()
+                        .parseModel(Input.from(classes.get(0)).getSourceTypes());
+                Assertions.assertEquals(size, model.getBeans().size());
+            });
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package cz.habarta.typescript.generator.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles generated Java sources in memory so benchmarks can work with thousands of real classes.
+ */
+public final class SyntheticClasses {
+
+    public static final String PACKAGE = "cz.habarta.typescript.generator.synthetic";
+
+    private SyntheticClasses() {
+    }
+
+    /**
+     * Generates <code>count</code> beans named <code>C0</code>...<code>Cn</code>.
+     * Each bean references several other beans (directly, in a list and in a map)
+     * so all of them are reachable from <code>C0</code> and most of them are discovered more than once.
+     */
+    public static List<Class<?>> beans(int count) {
+        return compile(count, "C", i -> String.format(
+                "public class C%1$d {%n"
+                + "    public String name;%n"
+                + "    public int value;%n"
+                + "    public C%2$d next;%n"
+                + "    public java.util.List<C%3$d> items;%n"
+                + "    public java.util.Map<String, C%4$d> byName;%n"
+                + "}%n",
+                i, (i + 1) % count, (i * 7 + 3) % count, (i * 13 + 5) % count));
+    }
+
+    /**
+     * Generates classes named <code>prefix + i</code> using provided source generator
+     * which returns class declaration without package.
+     */
+    public static List<Class<?>> compile(int count, String prefix, IntFunction<String> sourceGenerator) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final List<JavaFileObject> sources = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            sources.add(new SourceFile(prefix + i, "package " + PACKAGE + ";\n" + sourceGenerator.apply(i)));
+        }
+        final Map<String, ClassFile> classFiles = new HashMap<>();
+        final StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(null, null, null);
+        final ForwardingJavaFileManager<StandardJavaFileManager> fileManager = new ForwardingJavaFileManager<>(standardFileManager) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+                final ClassFile classFile = new ClassFile(className);
+                classFiles.put(className, classFile);
+                return classFile;
+            }
+        };
+        final Boolean success = compiler.getTask(null, fileManager, null, List.of("-proc:none"), null, sources).call();
+        if (!Boolean.TRUE.equals(success)) {
+            throw new RuntimeException("Compilation of synthetic classes failed");
+        }
+        final ClassLoader classLoader = new ClassLoader(SyntheticClasses.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                final ClassFile classFile = classFiles.get(name);
+                if (classFile == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                final byte[] bytes = classFile.bytes.toByteArray();
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+        try {
+            final List<Class<?>> classes = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                classes.add(classLoader.loadClass(PACKAGE + "." + prefix + i));
+            }
+            return classes;
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String simpleName, String source) {
+            super(URI.create("string:///" + PACKAGE.replace('.', '/') + "/" + simpleName + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    private static class ClassFile extends SimpleJavaFileObject {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        ClassFile(String className) {
+            super(URI.create("bytes:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+    }
+
+}
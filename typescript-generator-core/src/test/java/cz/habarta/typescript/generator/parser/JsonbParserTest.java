@@ -307,6 +307,35 @@ public class JsonbParserTest {
         Assertions.assertFalse(output.contains("foo"), output);
     }
 
+    public static class BaseDto {
+        @JsonbProperty("identifier")
+        public String id;
+        @JsonbTransient
+        public String internal;
+        private String hidden;
+    }
+
+    public static class FirstDto extends BaseDto {
+        public String first;
+    }
+
+    public static class SecondDto extends BaseDto {
+        private String second;
+
+        @JsonbProperty("renamedSecond")
+        public String getSecond() {
+            return second;
+        }
+    }
+
+    @Test
+    public void testSubclassesSharingSuperclass() {
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(FirstDto.class, SecondDto.class));
+        Assertions.assertTrue(output.contains("interface BaseDto {\n    identifier?: string;\n}"), output);
+        Assertions.assertTrue(output.contains("interface FirstDto extends BaseDto {\n    first?: string;\n}"), output);
+        Assertions.assertTrue(output.contains("interface SecondDto extends BaseDto {\n    renamedSecond?: string;\n}"), output);
+    }
+
     private String generate(final Settings settings, Class<?> cls) {
         return new TypeScriptGenerator(settings).generateTypeScript(Input.from(cls));
     }
@@ -2,14 +2,14 @@ package cz.habarta.typescript.generator.parser;
 
 import cz.habarta.typescript.generator.*;
 import jakarta.json.*;
+import javax.json.bind.annotation.JsonbCreator;
+import javax.json.bind.annotation.JsonbProperty;
+import javax.json.bind.annotation.JsonbTransient;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import javax.json.bind.annotation.JsonbCreator;
-import javax.json.bind.annotation.JsonbProperty;
-import javax.json.bind.annotation.JsonbTransient;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Field;
@@ -307,6 +307,35 @@ public class JsonbV1ParserTest {
         Assertions.assertFalse(output.contains("foo"), output);
     }
 
+    public static class BaseDto {
+        @JsonbProperty("identifier")
+        public String id;
+        @JsonbTransient
+        public String internal;
+        private String hidden;
+    }
+
+    public static class FirstDto extends BaseDto {
+        public String first;
+    }
+
+    public static class SecondDto extends BaseDto {
+        private String second;
+
+        @JsonbProperty("renamedSecond")
+        public String getSecond() {
+            return second;
+        }
+    }
+
+    @Test
+    public void testSubclassesSharingSuperclass() {
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(FirstDto.class, SecondDto.class));
+        Assertions.assertTrue(output.contains("interface BaseDto {\n    identifier?: string;\n}"), output);
+        Assertions.assertTrue(output.contains("interface FirstDto extends BaseDto {\n    first?: string;\n}"), output);
+        Assertions.assertTrue(output.contains("interface SecondDto extends BaseDto {\n    renamedSecond?: string;\n}"), output);
+    }
+
     private String generate(final Settings settings, Class<?> cls) {
         return new TypeScriptGenerator(settings).generateTypeScript(Input.from(cls));
     }
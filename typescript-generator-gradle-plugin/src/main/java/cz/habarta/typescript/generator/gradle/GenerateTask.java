@@ -106,6 +106,9 @@ public abstract class GenerateTask extends DefaultTask {
     @Optional
     public abstract ListProperty<String> getScanningAcceptedPackages();
 
+    @Internal
+    public abstract Property<File> getScanningCacheDirectory();
+
     @Input
     @Optional
     public abstract ListProperty<String> getExcludeClasses();
@@ -273,6 +276,10 @@ public abstract class GenerateTask extends DefaultTask {
     @Optional
     public abstract Property<Boolean> getScanSpringApplication();
 
+    @Input
+    @Optional
+    public abstract Property<Boolean> getLightweightSpringApplicationScan();
+
     @Input
     @Optional
     public abstract Property<RestNamespacing> getRestNamespacing();
@@ -301,6 +308,21 @@ public abstract class GenerateTask extends DefaultTask {
     @Optional
     public abstract Property<Boolean> getSortTypeDeclarations();
 
+    @Input
+    @Optional
+    public abstract Property<Integer> getParserParallelism();
+
+    @Input
+    @Optional
+    public abstract Property<Boolean> getInternTsTypes();
+
+    @Internal
+    public abstract Property<File> getIncrementalCacheDirectory();
+
+    @Input
+    @Optional
+    public abstract Property<Boolean> getWriteOnlyChangedFiles();
+
     @Input
     @Optional
     public abstract Property<Boolean> getNoFileComment();
@@ -333,6 +355,10 @@ public abstract class GenerateTask extends DefaultTask {
     @Optional
     public abstract ListProperty<Settings.ConfiguredExtension> getExtensionsWithConfiguration();
 
+    @Input
+    @Optional
+    public abstract ListProperty<String> getModelEnrichers();
+
     @Input
     @Optional
     public abstract ListProperty<String> getOptionalAnnotations();
@@ -444,13 +470,14 @@ public abstract class GenerateTask extends DefaultTask {
             parameters.isClassNameExcluded = settings.getExcludeFilter();
             parameters.classLoader = classLoader;
             parameters.scanningAcceptedPackages = getScanningAcceptedPackages().getOrElse(Collections.emptyList());
+            parameters.scanningCacheDirectory = getScanningCacheDirectory().getOrNull();
             parameters.debug = logLevel == Logger.Level.Debug;
 
             final File output = getOutputFileProperty().getAsFile().get();
             settings.validateFileName(output);
 
             new TypeScriptGenerator(settings).generateTypeScript(cz.habarta.typescript.generator.Input.from(parameters),
-                    Output.to(output));
+                    Output.to(output, settings.writeOnlyChangedFiles));
         }
     }
 
@@ -510,6 +537,7 @@ public abstract class GenerateTask extends DefaultTask {
         settings.generateSpringApplicationInterface = getGenerateSpringApplicationInterface().getOrElse(false);
         settings.generateSpringApplicationClient = getGenerateSpringApplicationClient().getOrElse(false);
         settings.scanSpringApplication = getScanSpringApplication().getOrElse(false);
+        settings.lightweightSpringApplicationScan = getLightweightSpringApplicationScan().getOrElse(false);
         settings.restNamespacing = getRestNamespacing().getOrNull();
         settings.setRestNamespacingAnnotation(classLoader, getRestNamespacingAnnotation().getOrNull());
         settings.restResponseType = getRestResponseType().getOrNull();
@@ -517,6 +545,10 @@ public abstract class GenerateTask extends DefaultTask {
         settings.loadCustomTypeProcessor(classLoader, getCustomTypeProcessor().getOrNull());
         settings.sortDeclarations = getSortDeclarations().getOrElse(false);
         settings.sortTypeDeclarations = getSortTypeDeclarations().getOrElse(false);
+        settings.parserParallelism = getParserParallelism().getOrElse(1);
+        settings.internTsTypes = getInternTsTypes().getOrElse(false);
+        settings.incrementalCacheDirectory = getIncrementalCacheDirectory().getOrNull();
+        settings.writeOnlyChangedFiles = getWriteOnlyChangedFiles().getOrElse(false);
         settings.noFileComment = getNoFileComment().getOrElse(false);
         settings.noTslintDisable = getNoTslintDisable().getOrElse(false);
         settings.noEslintDisable = getNoEslintDisable().getOrElse(false);
@@ -534,6 +566,7 @@ public abstract class GenerateTask extends DefaultTask {
                         getExtensionClasses().getOrElse(Collections.emptyList()),
                         getExtensionsList().getOrElse(Collections.emptyList())),
                 getExtensionsWithConfiguration().getOrNull());
+        settings.loadModelEnrichers(classLoader, nullableList(getModelEnrichers()));
         settings.loadIncludePropertyAnnotations(classLoader, nullableList(getIncludePropertyAnnotations()));
         settings.loadExcludePropertyAnnotations(classLoader, nullableList(getExcludePropertyAnnotations()));
         settings.loadOptionalAnnotations(classLoader, nullableList(getOptionalAnnotations()));
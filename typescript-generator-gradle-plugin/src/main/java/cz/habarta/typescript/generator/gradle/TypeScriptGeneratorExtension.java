@@ -96,6 +96,10 @@ public abstract class TypeScriptGeneratorExtension {
     @Optional
     public abstract ListProperty<String> getScanningAcceptedPackages();
 
+    @Input
+    @Optional
+    public abstract Property<File> getScanningCacheDirectory();
+
     @Input
     @Optional
     public abstract ListProperty<String> getExcludeClasses();
@@ -260,6 +264,10 @@ public abstract class TypeScriptGeneratorExtension {
     @Optional
     public abstract Property<Boolean> getScanSpringApplication();
 
+    @Input
+    @Optional
+    public abstract Property<Boolean> getLightweightSpringApplicationScan();
+
     @Input
     @Optional
     public abstract Property<RestNamespacing> getRestNamespacing();
@@ -288,6 +296,22 @@ public abstract class TypeScriptGeneratorExtension {
     @Optional
     public abstract Property<Boolean> getSortTypeDeclarations();
 
+    @Input
+    @Optional
+    public abstract Property<Integer> getParserParallelism();
+
+    @Input
+    @Optional
+    public abstract Property<Boolean> getInternTsTypes();
+
+    @Input
+    @Optional
+    public abstract Property<File> getIncrementalCacheDirectory();
+
+    @Input
+    @Optional
+    public abstract Property<Boolean> getWriteOnlyChangedFiles();
+
     @Input
     @Optional
     public abstract Property<Boolean> getNoFileComment();
@@ -320,6 +344,10 @@ public abstract class TypeScriptGeneratorExtension {
     @Optional
     public abstract ListProperty<Settings.ConfiguredExtension> getExtensionsWithConfiguration();
 
+    @Input
+    @Optional
+    public abstract ListProperty<String> getModelEnrichers();
+
     @Input
     @Optional
     public abstract ListProperty<String> getOptionalAnnotations();
@@ -407,8 +435,12 @@ public abstract class TypeScriptGeneratorExtension {
         getGenerateSpringApplicationInterface().convention(false);
         getGenerateSpringApplicationClient().convention(false);
         getScanSpringApplication().convention(false);
+        getLightweightSpringApplicationScan().convention(false);
         getSortDeclarations().convention(false);
         getSortTypeDeclarations().convention(false);
+        getParserParallelism().convention(1);
+        getInternTsTypes().convention(false);
+        getWriteOnlyChangedFiles().convention(false);
         getNoFileComment().convention(false);
         getNoTslintDisable().convention(false);
         getNoEslintDisable().convention(false);
@@ -122,6 +122,7 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
         task.getClassesFromJaxrsApplication().set(extension.getClassesFromJaxrsApplication());
         task.getClassesFromAutomaticJaxrsApplication().set(extension.getClassesFromAutomaticJaxrsApplication());
         task.getScanningAcceptedPackages().set(extension.getScanningAcceptedPackages());
+        task.getScanningCacheDirectory().set(extension.getScanningCacheDirectory());
         task.getExcludeClasses().set(extension.getExcludeClasses());
         task.getExcludeClassPatterns().set(extension.getExcludeClassPatterns());
         task.getIncludePropertyAnnotations().set(extension.getIncludePropertyAnnotations());
@@ -163,6 +164,7 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
         task.getGenerateSpringApplicationInterface().set(extension.getGenerateSpringApplicationInterface());
         task.getGenerateSpringApplicationClient().set(extension.getGenerateSpringApplicationClient());
         task.getScanSpringApplication().set(extension.getScanSpringApplication());
+        task.getLightweightSpringApplicationScan().set(extension.getLightweightSpringApplicationScan());
         task.getRestNamespacing().set(extension.getRestNamespacing());
         task.getRestNamespacingAnnotation().set(extension.getRestNamespacingAnnotation());
         task.getRestResponseType().set(extension.getRestResponseType());
@@ -170,6 +172,10 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
         task.getCustomTypeProcessor().set(extension.getCustomTypeProcessor());
         task.getSortDeclarations().set(extension.getSortDeclarations());
         task.getSortTypeDeclarations().set(extension.getSortTypeDeclarations());
+        task.getParserParallelism().set(extension.getParserParallelism());
+        task.getInternTsTypes().set(extension.getInternTsTypes());
+        task.getIncrementalCacheDirectory().set(extension.getIncrementalCacheDirectory());
+        task.getWriteOnlyChangedFiles().set(extension.getWriteOnlyChangedFiles());
         task.getNoFileComment().set(extension.getNoFileComment());
         task.getNoTslintDisable().set(extension.getNoTslintDisable());
         task.getNoEslintDisable().set(extension.getNoEslintDisable());
@@ -178,6 +184,7 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
         task.getExtensionClasses().set(extension.getExtensionClasses());
         task.getExtensionsList().set(extension.getExtensionsList());
         task.getExtensionsWithConfiguration().set(extension.getExtensionsWithConfiguration());
+        task.getModelEnrichers().set(extension.getModelEnrichers());
         task.getOptionalAnnotations().set(extension.getOptionalAnnotations());
         task.getRequiredAnnotations().set(extension.getRequiredAnnotations());
         task.getNullableAnnotations().set(extension.getNullableAnnotations());
@@ -164,6 +164,17 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private List<String> scanningAcceptedPackages;
 
+    /**
+     * Directory for classpath scanning cache, for example <code>${project.build.directory}/typescript-generator/scan-cache</code>.
+     * When specified, class metadata (superclass, interfaces and annotations) of each classpath entry is stored in this directory
+     * and reused in next runs while the entry doesn't change, so only changed jars and directories are scanned again.
+     * Applies to the same parameters as {@link #scanningAcceptedPackages}.
+     * Unlike full scan, results only contain classes from accepted packages (if specified).
+     * By default scanning cache is not used.
+     */
+    @Parameter
+    private File scanningCacheDirectory;
+
     /**
      * List of classes excluded from processing.
      */
@@ -552,6 +563,19 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private boolean scanSpringApplication;
 
+    /**
+     * If <code>true</code> Spring REST application is not started when scanning it (see {@link #scanSpringApplication}).
+     * Instead controllers are found in packages specified by <code>@ComponentScan</code> or <code>@SpringBootApplication</code> annotations
+     * so no beans need to be created.
+     * Exclude filters of type <code>ANNOTATION</code>, <code>ASSIGNABLE_TYPE</code> and <code>REGEX</code> are applied.
+     * Controllers registered in other ways (for example using <code>@Bean</code> methods or <code>@Import</code>) are not found.
+     * Application is started as usual if no controller is found or if the component scan cannot be emulated, that is when
+     * application class has no <code>@ComponentScan</code>, <code>useDefaultFilters=false</code> or other exclude filter types are used
+     * or some controller is conditional (for example using <code>@Profile</code> or <code>@Conditional</code>).
+     */
+    @Parameter
+    private boolean lightweightSpringApplicationScan;
+
     /**
      * Specifies how JAX-RS REST operations will be grouped into objects.
      * Supported values are:
@@ -617,6 +641,44 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private boolean sortTypeDeclarations;
 
+    /**
+     * Number of threads used for parsing Java classes.
+     * Default value is <code>1</code> which means that classes are parsed sequentially.
+     * Values greater than <code>1</code> enable parallel parsing, generated output is the same in both cases.
+     * Note that custom type processors and extensions invoked during parsing must be thread-safe when parallel parsing is enabled.
+     */
+    @Parameter
+    private Integer parserParallelism;
+
+    /**
+     * If <code>true</code> equal TypeScript types of properties in generated model share one instance.
+     * This reduces memory used by large models, generated output is not affected.
+     */
+    @Parameter
+    private boolean internTsTypes;
+
+    /**
+     * Directory for incremental generation cache, for example <code>${project.build.directory}/typescript-generator/cache</code>.
+     * When specified, generated output is stored in this directory together with hashes of all class files
+     * which contributed to the model (including their supertypes and <code>package-info</code> classes),
+     * class files of extensions, custom type processor, model enrichers and other classes specified in settings and hash of settings.
+     * Next run reuses the output without parsing any class if none of these hashes changed.
+     * Classes which are not visible to project class loader (for example extensions from plugin dependencies)
+     * and resources other than class files are not checked, clear the cache directory when they change.
+     * Cache failures (like unwritable directory) are only logged.
+     * By default incremental cache is not used.
+     */
+    @Parameter
+    private File incrementalCacheDirectory;
+
+    /**
+     * If <code>true</code> output files (including <code>typescript-generator-info.json</code> and <code>package.json</code>)
+     * are only written when their content changed, timestamp in file comment is ignored in this comparison.
+     * Unchanged files keep their modification time so incremental TypeScript builds and bundlers don't rebuild them.
+     */
+    @Parameter
+    private boolean writeOnlyChangedFiles;
+
     /**
      * If <code>true</code> generated file will not contain comment at the top.
      * By default there is a comment with timestamp and typescript-generator version.
@@ -683,6 +745,15 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private List<Settings.ConfiguredExtension> extensionsWithConfiguration;
 
+    /**
+     * List of model enrichers specified as fully qualified class names.
+     * Classes must implement <code>cz.habarta.typescript.generator.parser.ModelEnricher</code> interface and have public no-argument constructor.
+     * Enrichers can modify parsed beans, properties, enums and REST methods (for example add comments)
+     * and are applied after built-in Swagger, Javadoc and deprecation enrichers in the same pass over the model.
+     */
+    @Parameter
+    private List<String> modelEnrichers;
+
     /**
      * The presence of any annotation in this list on a JSON property will cause
      * the typescript-generator to treat that property as optional when generating
@@ -913,6 +984,7 @@ public class GenerateMojo extends AbstractMojo {
         settings.generateSpringApplicationInterface = generateSpringApplicationInterface;
         settings.generateSpringApplicationClient = generateSpringApplicationClient;
         settings.scanSpringApplication = scanSpringApplication;
+        settings.lightweightSpringApplicationScan = lightweightSpringApplicationScan;
         settings.restNamespacing = restNamespacing;
         settings.setRestNamespacingAnnotation(classLoader, restNamespacingAnnotation);
         settings.restResponseType = restResponseType;
@@ -920,12 +992,19 @@ public class GenerateMojo extends AbstractMojo {
         settings.loadCustomTypeProcessor(classLoader, customTypeProcessor);
         settings.sortDeclarations = sortDeclarations;
         settings.sortTypeDeclarations = sortTypeDeclarations;
+        if (parserParallelism != null) {
+            settings.parserParallelism = parserParallelism;
+        }
+        settings.internTsTypes = internTsTypes;
+        settings.incrementalCacheDirectory = incrementalCacheDirectory;
+        settings.writeOnlyChangedFiles = writeOnlyChangedFiles;
         settings.noFileComment = noFileComment;
         settings.noTslintDisable = noTslintDisable;
         settings.noEslintDisable = noEslintDisable;
         settings.tsNoCheck = tsNoCheck;
         settings.javadocXmlFiles = javadocXmlFiles;
         settings.loadExtensions(classLoader, extensions, extensionsWithConfiguration);
+        settings.loadModelEnrichers(classLoader, modelEnrichers);
         settings.loadIncludePropertyAnnotations(classLoader, includePropertyAnnotations);
         settings.loadExcludePropertyAnnotations(classLoader, excludePropertyAnnotations);
         settings.loadOptionalAnnotations(classLoader, optionalAnnotations);
@@ -987,6 +1066,7 @@ public class GenerateMojo extends AbstractMojo {
             parameters.isClassNameExcluded = settings.getExcludeFilter();
             parameters.classLoader = classLoader;
             parameters.scanningAcceptedPackages = scanningAcceptedPackages;
+            parameters.scanningCacheDirectory = scanningCacheDirectory;
             parameters.debug = loggingLevel == Logger.Level.Debug;
 
             final File output = outputFile != null
@@ -995,7 +1075,7 @@ public class GenerateMojo extends AbstractMojo {
                             project.getArtifactId() + settings.getExtension());
             settings.validateFileName(output);
 
-            new TypeScriptGenerator(settings).generateTypeScript(Input.from(parameters), Output.to(output));
+            new TypeScriptGenerator(settings).generateTypeScript(Input.from(parameters), Output.to(output, settings.writeOnlyChangedFiles));
 
         } catch (IOException e) {
             throw new RuntimeException(e);
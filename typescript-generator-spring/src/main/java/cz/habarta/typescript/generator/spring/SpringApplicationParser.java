@@ -7,31 +7,51 @@ import cz.habarta.typescript.generator.TypeScriptGenerator;
 import cz.habarta.typescript.generator.parser.*;
 import cz.habarta.typescript.generator.type.JTypeWithNullability;
 import cz.habarta.typescript.generator.util.GenericsResolver;
-import cz.habarta.typescript.generator.util.Pair;
 import cz.habarta.typescript.generator.util.Utils;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
 import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.springframework.boot.Banner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.TypeExcludeFilter;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ComponentScans;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotationSelectors;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.RepeatableContainers;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
 import static cz.habarta.typescript.generator.util.Utils.getInheritanceChain;
@@ -43,21 +63,37 @@ public class SpringApplicationParser extends RestApplicationParser {
 
         @Override
         public TypeProcessor getSpecificTypeProcessor() {
-            return (javaType, context) -> {
-                final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
-                if (rawClass != null) {
+            return new TypeProcessor() {
+                @Override
+                public boolean isCacheable(Object typeContext) {
+                    return true;
+                }
+
+                @Override
+                public boolean canProcess(Class<?> rawClass) {
+                    return getTsType(rawClass) != null;
+                }
+
+                @Override
+                public TypeProcessor.Result processType(Type javaType, TypeProcessor.Context context) {
+                    final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
+                    final TsType tsType = rawClass != null ? getTsType(rawClass) : null;
+                    return tsType != null ? new TypeProcessor.Result(tsType) : null;
+                }
+
+                private TsType getTsType(Class<?> rawClass) {
                     for (Map.Entry<Class<?>, TsType> entry : getStandardEntityClassesMapping().entrySet()) {
                         final Class<?> cls = entry.getKey();
                         final TsType type = entry.getValue();
                         if (cls.isAssignableFrom(rawClass) && type != null) {
-                            return new TypeProcessor.Result(type);
+                            return type;
                         }
                     }
                     if (getDefaultExcludedClassNames().contains(rawClass.getName())) {
-                        return new TypeProcessor.Result(TsType.Any);
+                        return TsType.Any;
                     }
+                    return null;
                 }
-                return null;
             };
         }
 
@@ -68,6 +104,10 @@ public class SpringApplicationParser extends RestApplicationParser {
 
     }
 
+    private final Map<Method, RequestMethodAnnotations> requestMethodAnnotations = new ConcurrentHashMap<>();
+    private final Map<Method, MergedAnnotation<RequestMapping>> declaredRequestMappings = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, List<Method>>> declaredMethodsByName = new ConcurrentHashMap<>();
+
     public SpringApplicationParser(Settings settings, TypeProcessor commonTypeProcessor) {
         super(settings, commonTypeProcessor, new RestApplicationModel(RestApplicationType.Spring));
     }
@@ -86,9 +126,7 @@ public class SpringApplicationParser extends RestApplicationParser {
                 final ClassLoader originalContextClassLoader = Thread.currentThread().getContextClassLoader();
                 try {
                     Thread.currentThread().setContextClassLoader(settings.classLoader);
-                    final SpringApplicationHelper springApplicationHelper = new SpringApplicationHelper(
-                            settings.classLoader, cls);
-                    final List<Class<?>> restControllers = springApplicationHelper.findRestControllers();
+                    final List<Class<?>> restControllers = findRestControllers(cls);
                     return new JaxrsApplicationParser.Result(restControllers.stream()
                             .map(controller -> new SourceType<Type>(controller, cls, "<scanned>"))
                             .collect(Collectors.toList()));
@@ -117,6 +155,190 @@ public class SpringApplicationParser extends RestApplicationParser {
         return null;
     }
 
+    private List<Class<?>> findRestControllers(Class<?> applicationClass) {
+        if (settings.lightweightSpringApplicationScan) {
+            final List<Class<?>> restControllers = new ComponentScanHelper(settings.classLoader, applicationClass)
+                    .findRestControllers();
+            if (restControllers != null && !restControllers.isEmpty()) {
+                return restControllers;
+            }
+            if (restControllers != null) {
+                TypeScriptGenerator.getLogger().info("No Spring controllers found by component scan of '"
+                        + applicationClass.getName() + "', running Spring application instead");
+            }
+        }
+        final SpringApplicationHelper springApplicationHelper = new SpringApplicationHelper(
+                settings.classLoader, applicationClass);
+        return springApplicationHelper.findRestControllers();
+    }
+
+    /**
+     * Finds controllers in packages of <code>@ComponentScan</code> annotations (including <code>@SpringBootApplication</code>)
+     * using ClassGraph without starting Spring application, so no beans are created.
+     * Exclude filters of type <code>ANNOTATION</code>, <code>ASSIGNABLE_TYPE</code> and <code>REGEX</code> are applied,
+     * Spring Boot <code>TypeExcludeFilter</code> and <code>AutoConfigurationExcludeFilter</code> are ignored (they don't exclude controllers in application code).
+     * Include filters only add components which are not controllers so they are ignored too.
+     * Component scan cannot be emulated (and {@link #findRestControllers()} returns <code>null</code>) when application class has no <code>@ComponentScan</code>,
+     * when default filters are disabled, when other exclude filter types are used
+     * or when some controller is conditional (for example using <code>@Profile</code> or <code>@Conditional</code>).
+     * Controllers registered other way (for example using <code>@Bean</code> methods or <code>@Import</code>) are not found.
+     */
+    private class ComponentScanHelper {
+
+        private final ClassLoader classLoader;
+        private final Class<?> applicationClass;
+
+        public ComponentScanHelper(ClassLoader classLoader, Class<?> applicationClass) {
+            this.classLoader = classLoader != null ? classLoader : applicationClass.getClassLoader();
+            this.applicationClass = applicationClass;
+        }
+
+        /**
+         * @return found controllers or <code>null</code> if component scan of the application cannot be emulated
+         */
+        public List<Class<?>> findRestControllers() {
+            final Set<ComponentScan> componentScans = AnnotatedElementUtils.getMergedRepeatableAnnotations(
+                    applicationClass, ComponentScan.class, ComponentScans.class);
+            if (componentScans.isEmpty()) {
+                return unsupported("application class has no @ComponentScan annotation");
+            }
+            final Map<ComponentScan, List<String>> basePackagesByScan = new LinkedHashMap<>();
+            for (ComponentScan componentScan : componentScans) {
+                if (!componentScan.useDefaultFilters()) {
+                    return unsupported("@ComponentScan with useDefaultFilters=false is used");
+                }
+                for (ComponentScan.Filter filter : componentScan.excludeFilters()) {
+                    if (!isSupportedExcludeFilter(filter)) {
+                        return unsupported("@ComponentScan exclude filter of type " + filter.type() + " is used");
+                    }
+                }
+                basePackagesByScan.put(componentScan, getBasePackages(componentScan));
+            }
+            final List<String> basePackages = basePackagesByScan.values().stream()
+                    .flatMap(List::stream)
+                    .distinct()
+                    .collect(Collectors.toList());
+            TypeScriptGenerator.getLogger().verbose("Scanning Spring controllers in packages: " + basePackages);
+            final ClassGraph classGraph = new ClassGraph()
+                    .enableClassInfo()
+                    .enableAnnotationInfo()
+                    .ignoreClassVisibility()
+                    .acceptPackages(basePackages.toArray(new String[0]))
+                    .overrideClassLoaders(classLoader);
+            final List<Class<?>> restControllers;
+            try (ScanResult scanResult = classGraph.scan()) {
+                restControllers = Stream.of(Controller.class, RestController.class)
+                        .flatMap(annotation -> scanResult.getClassesWithAnnotation(annotation.getName()).stream())
+                        .filter(classInfo -> classInfo.isStandardClass() && !classInfo.isAbstract())
+                        .map(ClassInfo::getName)
+                        .distinct()
+                        .sorted()
+                        .filter(className -> isClassNameExcluded == null || !isClassNameExcluded.test(className))
+                        .map(className -> {
+                            try {
+                                return classLoader.loadClass(className);
+                            } catch (ClassNotFoundException e) {
+                                throw new RuntimeException(e);
+                            }
+                        })
+                        // component scan ignores non-static inner classes
+                        .filter(cls -> cls.getEnclosingClass() == null || Modifier.isStatic(cls.getModifiers()))
+                        .filter(cls -> AnnotationUtils.findAnnotation(cls, Component.class) != null)
+                        // each component scan applies its exclude filters only to its own packages
+                        .filter(cls -> basePackagesByScan.entrySet().stream()
+                                .anyMatch(entry -> isInPackages(cls, entry.getValue()) && !isExcluded(cls, entry.getKey())))
+                        .collect(Collectors.toList());
+            }
+            for (Class<?> restController : restControllers) {
+                if (AnnotatedElementUtils.isAnnotated(restController, Conditional.class)) {
+                    return unsupported("controller " + restController.getName() + " is conditional (@Profile or @Conditional)");
+                }
+            }
+            return restControllers;
+        }
+
+        private List<Class<?>> unsupported(String reason) {
+            TypeScriptGenerator.getLogger().info("Component scan of '" + applicationClass.getName()
+                    + "' cannot be emulated because " + reason + ", running Spring application instead");
+            return null;
+        }
+
+        private List<String> getBasePackages(ComponentScan componentScan) {
+            final Set<String> packages = new LinkedHashSet<>();
+            for (String basePackage : componentScan.basePackages()) {
+                packages.addAll(Arrays.asList(StringUtils.tokenizeToStringArray(basePackage,
+                        ConfigurableApplicationContext.CONFIG_LOCATION_DELIMITERS)));
+            }
+            for (Class<?> basePackageClass : componentScan.basePackageClasses()) {
+                packages.add(basePackageClass.getPackageName());
+            }
+            if (packages.isEmpty()) {
+                packages.add(applicationClass.getPackageName());
+            }
+            return new ArrayList<>(packages);
+        }
+
+        private boolean isInPackages(Class<?> cls, List<String> packages) {
+            final String packageName = cls.getPackageName();
+            return packages.stream().anyMatch(p -> packageName.equals(p) || packageName.startsWith(p + "."));
+        }
+
+        private boolean isSupportedExcludeFilter(ComponentScan.Filter filter) {
+            switch (filter.type()) {
+                case ANNOTATION:
+                case ASSIGNABLE_TYPE:
+                case REGEX:
+                    return true;
+                case CUSTOM:
+                    return getFilterClasses(filter).stream()
+                            .allMatch(cls -> cls == TypeExcludeFilter.class || cls == AutoConfigurationExcludeFilter.class);
+                default:
+                    return false;
+            }
+        }
+
+        // `value` and `classes` are aliases
+        private Set<Class<?>> getFilterClasses(ComponentScan.Filter filter) {
+            final Set<Class<?>> classes = new LinkedHashSet<>(Arrays.asList(filter.value()));
+            classes.addAll(Arrays.asList(filter.classes()));
+            return classes;
+        }
+
+        private boolean isExcluded(Class<?> cls, ComponentScan componentScan) {
+            for (ComponentScan.Filter filter : componentScan.excludeFilters()) {
+                switch (filter.type()) {
+                    case ANNOTATION:
+                        for (Class<?> annotation : getFilterClasses(filter)) {
+                            // like Spring AnnotationTypeFilter: meta-annotations and @Inherited annotations are considered, java.lang annotations are not
+                            if (annotation.isAnnotation() && MergedAnnotations
+                                    .from(cls, MergedAnnotations.SearchStrategy.INHERITED_ANNOTATIONS)
+                                    .isPresent(annotation.asSubclass(Annotation.class))) {
+                                return true;
+                            }
+                        }
+                        break;
+                    case ASSIGNABLE_TYPE:
+                        for (Class<?> type : getFilterClasses(filter)) {
+                            if (type.isAssignableFrom(cls)) {
+                                return true;
+                            }
+                        }
+                        break;
+                    case REGEX:
+                        for (String pattern : filter.pattern()) {
+                            if (Pattern.compile(pattern).matcher(cls.getName()).matches()) {
+                                return true;
+                            }
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return false;
+        }
+    }
+
     private class SpringApplicationHelper extends SpringApplication {
 
         private final ClassLoader classLoader;
@@ -167,64 +389,188 @@ public class SpringApplicationParser extends RestApplicationParser {
 
     private List<Method> getAllRequestMethods(Class<?> cls) {
 
-        List<Method> currentlyResolvedMethods = new ArrayList<>();
+        final Map<MethodSignature, Method> currentlyResolvedMethods = new LinkedHashMap<>();
 
         getInheritanceChain(cls)
                 .forEach(clazz -> {
 
                     for (Method method : clazz.getDeclaredMethods()) {
-                        final RequestMapping requestMapping = AnnotatedElementUtils.findMergedAnnotation(method,
-                                RequestMapping.class);
-                        if (requestMapping != null) {
+                        if (getRequestMethodAnnotations(method).requestMapping != null) {
                             addOrReplaceMethod(currentlyResolvedMethods, method);
                         }
                     }
 
                 });
 
-        return currentlyResolvedMethods;
+        return new ArrayList<>(currentlyResolvedMethods.values());
     }
 
-    private void addOrReplaceMethod(List<Method> resolvedMethods, Method newMethod) {
+    private void addOrReplaceMethod(Map<MethodSignature, Method> resolvedMethods, Method newMethod) {
 
-        int methodIndex = getMethodIndex(resolvedMethods, newMethod);
-        if (methodIndex == -1) {
-            resolvedMethods.add(newMethod);
+        final MethodSignature signature = new MethodSignature(newMethod);
+        if (!resolvedMethods.containsKey(signature)) {
+            resolvedMethods.put(signature, newMethod);
             return;
         }
 
         final Method bridgedMethod = BridgeMethodResolver.findBridgedMethod(newMethod);
 
-        int bridgedMethodIndex = getMethodIndex(resolvedMethods, bridgedMethod);
-        if (bridgedMethodIndex == -1 || bridgedMethodIndex == methodIndex) {
-            resolvedMethods.set(methodIndex, bridgedMethod);
-        } else {
-            resolvedMethods.set(bridgedMethodIndex, bridgedMethod);
-            resolvedMethods.remove(methodIndex);
+        final MethodSignature bridgedSignature = new MethodSignature(bridgedMethod);
+        if (!bridgedSignature.equals(signature)) {
+            resolvedMethods.remove(signature);
         }
+        resolvedMethods.put(bridgedSignature, bridgedMethod);
     }
 
-    private int getMethodIndex(List<Method> resolvedMethods, Method newMethod) {
-        for (int i = 0; i < resolvedMethods.size(); i++) {
-            Method currMethod = resolvedMethods.get(i);
+    /**
+     * Method name and parameter types, used to find methods overridden in subclasses.
+     */
+    private static class MethodSignature {
+        private final String name;
+        private final List<Class<?>> parameterTypes;
+
+        public MethodSignature(Method method) {
+            this.name = method.getName();
+            this.parameterTypes = Arrays.asList(method.getParameterTypes());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof MethodSignature other
+                    && name.equals(other.name)
+                    && parameterTypes.equals(other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, parameterTypes);
+        }
+    }
+
+    private RequestMethodAnnotations getRequestMethodAnnotations(Method method) {
+        return requestMethodAnnotations.computeIfAbsent(method,
+                m -> new RequestMethodAnnotations(m, findRequestMapping(m)));
+    }
 
-            if (!currMethod.getName().equals(newMethod.getName())) {
-                continue;
+    /**
+     * Finds <code>@RequestMapping</code> like <code>AnnotatedElementUtils.findMergedAnnotation()</code> does
+     * (on method and methods it overrides in interfaces and superclasses, first directly declared annotation wins)
+     * but overridden methods are looked up by name instead of checking all methods of each supertype
+     * and annotations declared on supertype methods are resolved only once for all controllers.
+     */
+    private RequestMapping findRequestMapping(Method method) {
+        final List<Method> methodHierarchy = new ArrayList<>();
+        collectMethodHierarchy(methodHierarchy, method.getDeclaringClass(), method);
+        MergedAnnotation<RequestMapping> nearest = null;
+        for (Method overriddenMethod : methodHierarchy) {
+            final MergedAnnotation<RequestMapping> annotation = declaredRequestMappings.computeIfAbsent(overriddenMethod,
+                    m -> MergedAnnotations.from(m, MergedAnnotations.SearchStrategy.DIRECT, RepeatableContainers.none())
+                            .get(RequestMapping.class, null, MergedAnnotationSelectors.firstDirectlyDeclared()));
+            if (annotation.isPresent()) {
+                if (annotation.getDistance() == 0) {
+                    return annotation.synthesize();
+                }
+                if (nearest == null) {
+                    nearest = annotation;
+                }
             }
-            if (!Arrays.equals(currMethod.getParameterTypes(), newMethod.getParameterTypes())) {
-                continue;
+        }
+        return nearest != null ? nearest.synthesize() : null;
+    }
+
+    // same order as Spring's AnnotationsScanner: class, its interfaces, its superclass
+    private void collectMethodHierarchy(List<Method> methodHierarchy, Class<?> cls, Method rootMethod) {
+        if (cls.getName().startsWith("java.") || cls == Ordered.class) {
+            return;
+        }
+        if (cls == rootMethod.getDeclaringClass()) {
+            addWithBridgedMethod(methodHierarchy, rootMethod);
+        } else {
+            final Map<String, List<Method>> methodsByName = declaredMethodsByName.computeIfAbsent(cls,
+                    c -> Stream.of(ReflectionUtils.getDeclaredMethods(c))
+                            .filter(m -> !Modifier.isPrivate(m.getModifiers()))
+                            .collect(Collectors.groupingBy(Method::getName)));
+            for (Method candidate : methodsByName.getOrDefault(rootMethod.getName(), List.of())) {
+                if (hasSameParameterTypes(rootMethod, candidate)) {
+                    addWithBridgedMethod(methodHierarchy, candidate);
+                }
             }
+        }
+        if (Modifier.isPrivate(rootMethod.getModifiers())) {
+            return;
+        }
+        for (Class<?> aInterface : cls.getInterfaces()) {
+            collectMethodHierarchy(methodHierarchy, aInterface, rootMethod);
+        }
+        final Class<?> superclass = cls.getSuperclass();
+        if (superclass != null && superclass != Object.class) {
+            collectMethodHierarchy(methodHierarchy, superclass, rootMethod);
+        }
+    }
+
+    private static void addWithBridgedMethod(List<Method> methodHierarchy, Method method) {
+        methodHierarchy.add(method);
+        final Method bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
+        if (bridgedMethod != method) {
+            methodHierarchy.add(bridgedMethod);
+        }
+    }
 
-            return i;
+    private static boolean hasSameParameterTypes(Method rootMethod, Method candidate) {
+        if (candidate.getParameterCount() != rootMethod.getParameterCount()) {
+            return false;
+        }
+        final Class<?>[] rootParameterTypes = rootMethod.getParameterTypes();
+        if (Arrays.equals(candidate.getParameterTypes(), rootParameterTypes)) {
+            return true;
         }
+        // generic parameters resolved in root method class
+        final Class<?> rootClass = rootMethod.getDeclaringClass();
+        if (!candidate.getDeclaringClass().isAssignableFrom(rootClass)) {
+            return false;
+        }
+        for (int i = 0; i < rootParameterTypes.length; i++) {
+            if (ResolvableType.forMethodParameter(candidate, i, rootClass).resolve() != rootParameterTypes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        return -1;
+    /**
+     * Spring annotations of method and its parameters, resolved once for each method
+     * (methods of superclasses and interfaces are usually inspected for more controllers).
+     * Parameter annotations are resolved only for request methods.
+     */
+    private static class RequestMethodAnnotations {
+        private final RequestMapping requestMapping;
+        private final Parameter[] parameters;
+        private final PathVariable[] pathVariables;
+        private final RequestParam[] requestParams;
+        private final ModelAttribute[] modelAttributes;
+        private final RequestBody[] requestBodies;
+
+        public RequestMethodAnnotations(Method method, RequestMapping requestMapping) {
+            this.requestMapping = requestMapping;
+            this.parameters = requestMapping != null ? method.getParameters() : new Parameter[0];
+            this.pathVariables = new PathVariable[parameters.length];
+            this.requestParams = new RequestParam[parameters.length];
+            this.modelAttributes = new ModelAttribute[parameters.length];
+            this.requestBodies = new RequestBody[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                pathVariables[i] = AnnotationUtils.findAnnotation(parameters[i], PathVariable.class);
+                requestParams[i] = AnnotationUtils.findAnnotation(parameters[i], RequestParam.class);
+                modelAttributes[i] = AnnotationUtils.findAnnotation(parameters[i], ModelAttribute.class);
+                requestBodies[i] = AnnotationUtils.findAnnotation(parameters[i], RequestBody.class);
+            }
+        }
     }
 
     // https://docs.spring.io/spring/docs/current/spring-framework-reference/web.html#mvc-ann-methods
     private void parseControllerMethod(JaxrsApplicationParser.Result result,
             JaxrsApplicationParser.ResourceContext context, Class<?> controllerClass, Method method) {
-        final RequestMapping requestMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+        final RequestMethodAnnotations annotations = getRequestMethodAnnotations(method);
+        final RequestMapping requestMapping = annotations.requestMapping;
         if (requestMapping != null) {
 
             // swagger
@@ -245,9 +591,9 @@ public class SpringApplicationParser extends RestApplicationParser {
             // subContext
             context = context.subPath(requestMapping.path().length == 0 ? "" : requestMapping.path()[0]);
             final Map<String, Type> pathParamTypes = new LinkedHashMap<>();
-            for (Parameter parameter : method.getParameters()) {
-                final PathVariable pathVariableAnnotation = AnnotationUtils.findAnnotation(parameter,
-                        PathVariable.class);
+            for (int i = 0; i < annotations.parameters.length; i++) {
+                final Parameter parameter = annotations.parameters[i];
+                final PathVariable pathVariableAnnotation = annotations.pathVariables[i];
                 if (pathVariableAnnotation != null) {
                     String pathVariableName = pathVariableAnnotation.value();
                     // https://docs.spring.io/spring/docs/3.2.x/spring-framework-reference/html/mvc.html#mvc-ann-requestmapping-uri-templates
@@ -278,14 +624,14 @@ public class SpringApplicationParser extends RestApplicationParser {
 
             // query parameters
             final List<RestQueryParam> queryParams = new ArrayList<>();
-            for (Parameter parameter : method.getParameters()) {
+            for (int i = 0; i < annotations.parameters.length; i++) {
+                final Parameter parameter = annotations.parameters[i];
                 if (parameter.getType() == Pageable.class) {
                     queryParams.add(new RestQueryParam.Single(new MethodParameterModel("page", Long.class), false));
                     queryParams.add(new RestQueryParam.Single(new MethodParameterModel("size", Long.class), false));
                     queryParams.add(new RestQueryParam.Single(new MethodParameterModel("sort", String.class), false));
                 } else {
-                    final RequestParam requestParamAnnotation = AnnotationUtils.findAnnotation(parameter,
-                            RequestParam.class);
+                    final RequestParam requestParamAnnotation = annotations.requestParams[i];
                     if (requestParamAnnotation != null) {
                         if (parameter.getType() == MultiValueMap.class) {
                             queryParams.add(new RestQueryParam.Map(false));
@@ -299,8 +645,7 @@ public class SpringApplicationParser extends RestApplicationParser {
                         }
                     }
 
-                    final ModelAttribute modelAttributeAnnotation = AnnotationUtils.findAnnotation(parameter,
-                            ModelAttribute.class);
+                    final ModelAttribute modelAttributeAnnotation = annotations.modelAttributes[i];
                     if (modelAttributeAnnotation != null) {
                         try {
                             final BeanInfo beanInfo = Introspector.getBeanInfo(parameter.getType());
@@ -323,7 +668,7 @@ public class SpringApplicationParser extends RestApplicationParser {
             }
 
             // entity parameter
-            final MethodParameterModel entityParameter = getEntityParameter(controllerClass, method);
+            final MethodParameterModel entityParameter = getEntityParameter(controllerClass, method, annotations);
             if (entityParameter != null) {
                 foundType(result, entityParameter.getType(), controllerClass, method.getName());
             }
@@ -352,16 +697,14 @@ public class SpringApplicationParser extends RestApplicationParser {
         return GenericsResolver.resolveType(controllerClass, modelReturnType, method.getDeclaringClass());
     }
 
-    private MethodParameterModel getEntityParameter(Class<?> controller, Method method) {
-        final List<Type> parameterTypes = settings.getTypeParser().getMethodParameterTypes(method);
-        final List<Pair<Parameter, Type>> parameters = Utils.zip(Arrays.asList(method.getParameters()), parameterTypes);
-        for (Pair<Parameter, Type> pair : parameters) {
-            final RequestBody requestBodyAnnotation = AnnotationUtils.findAnnotation(pair.getValue1(),
-                    RequestBody.class);
-            if (requestBodyAnnotation != null) {
-                final Type resolvedType = GenericsResolver.resolveType(controller, pair.getValue2(),
+    private MethodParameterModel getEntityParameter(Class<?> controller, Method method,
+            RequestMethodAnnotations annotations) {
+        for (int i = 0; i < annotations.parameters.length; i++) {
+            if (annotations.requestBodies[i] != null) {
+                final Type parameterType = settings.getTypeParser().getMethodParameterTypes(method).get(i);
+                final Type resolvedType = GenericsResolver.resolveType(controller, parameterType,
                         method.getDeclaringClass());
-                return new MethodParameterModel(pair.getValue1().getName(), resolvedType);
+                return new MethodParameterModel(annotations.parameters[i].getName(), resolvedType);
             }
         }
         return null;
@@ -2,12 +2,17 @@
 package cz.habarta.typescript.generator.spring;
 
 import cz.habarta.typescript.generator.*;
+import cz.habarta.typescript.generator.parser.RestApplicationParser;
+import cz.habarta.typescript.generator.parser.SourceType;
+import cz.habarta.typescript.generator.springscan.filters.FilteredScanTestApplication;
+import cz.habarta.typescript.generator.springscan.profile.ProfileScanTestApplication;
 import cz.habarta.typescript.generator.util.Utils;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.v3.oas.annotations.Operation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -57,6 +62,77 @@ public class SpringTest {
         Assertions.assertTrue(output.contains("interface Greeting"));
     }
 
+    @Test
+    public void testLightweightApplicationScan() {
+        final Settings settings = TestUtils.settings();
+        settings.generateSpringApplicationInterface = true;
+        settings.scanSpringApplication = true;
+        settings.classLoader = Thread.currentThread().getContextClassLoader();
+        final String output = new TypeScriptGenerator(settings)
+                .generateTypeScript(Input.from(SpringTestApplication.class));
+        settings.lightweightSpringApplicationScan = true;
+        final String lightweightOutput = new TypeScriptGenerator(settings)
+                .generateTypeScript(Input.from(SpringTestApplication.class));
+        Assertions.assertEquals(output, lightweightOutput);
+    }
+
+    @Test
+    public void testLightweightApplicationScanWithoutClassLoader() {
+        final Settings settings = TestUtils.settings();
+        settings.scanSpringApplication = true;
+        settings.lightweightSpringApplicationScan = true;
+        settings.classLoader = null;
+        final SpringApplicationParser parser = new SpringApplicationParser(settings, new DefaultTypeProcessor());
+        final RestApplicationParser.Result result = parser.tryParse(new SourceType<>(SpringTestApplication.class));
+        Assertions.assertNotNull(result);
+        Assertions.assertTrue(result.discoveredTypes.stream()
+                .anyMatch(sourceType -> sourceType.type == SpringTestApplication.GreetingController.class));
+    }
+
+    @Test
+    public void testLightweightApplicationScanWithExcludeFilters() {
+        final List<String> messages = new ArrayList<>();
+        final String output = generateWithBothScans(FilteredScanTestApplication.class, messages);
+        Assertions.assertTrue(output.contains("included("), output);
+        Assertions.assertFalse(output.contains("Excluded("), output);
+        Assertions.assertTrue(messages.stream().noneMatch(message -> message.contains("running Spring application instead")), messages.toString());
+    }
+
+    @Test
+    public void testLightweightApplicationScanWithProfile() {
+        final List<String> messages = new ArrayList<>();
+        final String output = generateWithBothScans(ProfileScanTestApplication.class, messages);
+        Assertions.assertTrue(output.contains("defaultProfile("), output);
+        Assertions.assertFalse(output.contains("production("), output);
+        Assertions.assertTrue(messages.stream().anyMatch(message -> message.contains("is conditional")), messages.toString());
+    }
+
+    /**
+     * Generates output using Spring application run and using lightweight scan, checks they are the same and returns it.
+     */
+    private static String generateWithBothScans(Class<?> applicationClass, List<String> messages) {
+        final Settings settings = TestUtils.settings();
+        settings.generateSpringApplicationInterface = true;
+        settings.scanSpringApplication = true;
+        settings.classLoader = Thread.currentThread().getContextClassLoader();
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(applicationClass));
+        settings.lightweightSpringApplicationScan = true;
+        final Logger originalLogger = TypeScriptGenerator.getLogger();
+        TypeScriptGenerator.setLogger(new Logger(Logger.Level.Info) {
+            @Override
+            protected void write(Level level, String message) {
+                messages.add(message);
+            }
+        });
+        try {
+            final String lightweightOutput = new TypeScriptGenerator(settings).generateTypeScript(Input.from(applicationClass));
+            Assertions.assertEquals(output, lightweightOutput);
+            return output;
+        } finally {
+            TypeScriptGenerator.setLogger(originalLogger);
+        }
+    }
+
     @Test
     public void testPathParameters() {
         final Settings settings = TestUtils.settings();
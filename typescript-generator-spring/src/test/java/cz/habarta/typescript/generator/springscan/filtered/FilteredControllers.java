@@ -0,0 +1,47 @@
+package cz.habarta.typescript.generator.springscan.filtered;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+public class FilteredControllers {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ExcludedFromScan {
+    }
+
+    @RestController
+    public static class IncludedController {
+        @GetMapping("/included")
+        public String included() {
+            return "";
+        }
+    }
+
+    @RestController
+    public static class AssignableExcludedController {
+        @GetMapping("/assignable-excluded")
+        public String assignableExcluded() {
+            return "";
+        }
+    }
+
+    @RestController
+    public static class RegexExcludedController {
+        @GetMapping("/regex-excluded")
+        public String regexExcluded() {
+            return "";
+        }
+    }
+
+    @RestController
+    @ExcludedFromScan
+    public static class AnnotationExcludedController {
+        @GetMapping("/annotation-excluded")
+        public String annotationExcluded() {
+            return "";
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package cz.habarta.typescript.generator.springscan.filters;
+
+import cz.habarta.typescript.generator.springscan.filtered.FilteredControllers;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+// outside of `cz.habarta.typescript.generator.spring` package so it is not scanned by SpringTestApplication,
+// controllers are in other package so they are only found by component scan with exclude filters
+@SpringBootApplication
+@ComponentScan(basePackageClasses = FilteredControllers.class, excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = FilteredControllers.AssignableExcludedController.class),
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*RegexExcluded.*"),
+        @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = FilteredControllers.ExcludedFromScan.class),
+})
+public class FilteredScanTestApplication {
+}
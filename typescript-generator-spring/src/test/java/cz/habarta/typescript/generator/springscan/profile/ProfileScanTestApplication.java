@@ -0,0 +1,29 @@
+package cz.habarta.typescript.generator.springscan.profile;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// outside of `cz.habarta.typescript.generator.spring` package so it is not scanned by SpringTestApplication
+@SpringBootApplication
+public class ProfileScanTestApplication {
+
+    @RestController
+    public static class DefaultController {
+        @GetMapping("/default")
+        public String defaultProfile() {
+            return "";
+        }
+    }
+
+    @RestController
+    @Profile("production")
+    public static class ProductionController {
+        @GetMapping("/production")
+        public String production() {
+            return "";
+        }
+    }
+
+}